@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core;
+
+/**
+ * Defines which tab contents are attached to the scene graph of a {@link TabPanePro}.
+ *
+ * @author Pavel Castornii
+ */
+public enum ContentAttachmentPolicy {
+
+    /**
+     * The contents of all tabs are attached, hidden contents are only made invisible.
+     */
+    EAGER,
+
+    /**
+     * Only the content of the selected tab is attached.
+     */
+    SELECTED_ONLY,
+
+    /**
+     * The contents of the most recently selected tabs are attached. The number of the contents is defined by
+     * {@link TabPanePro#attachedContentLimitProperty()}.
+     */
+    RECENTLY_SELECTED
+}
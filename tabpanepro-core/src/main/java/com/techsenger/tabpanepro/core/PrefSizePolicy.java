@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core;
+
+/**
+ * Defines how the contents of the tabs are taken into account when the pref size of a {@link TabPanePro} is
+ * computed.
+ *
+ * @author Pavel Castornii
+ */
+public enum PrefSizePolicy {
+
+    /**
+     * The pref size is the maximum of the pref sizes of all the attached contents, every content is measured
+     * each time the pref size is computed.
+     */
+    MAX_OF_ALL,
+
+    /**
+     * Only the content of the selected tab is measured.
+     */
+    SELECTED_ONLY,
+
+    /**
+     * The pref size is the maximum of the pref sizes of all the attached contents, but the pref size of every
+     * content is cached and it is measured again only when the content requests layout.
+     */
+    CACHED_MAX
+}
@@ -39,6 +39,17 @@ public class TabEvent extends Event {
 
     public static final EventType<TabEvent> TAB_DROPPED = new EventType<>(ANY, "TAB_DROPPED");
 
+    /**
+     * The event is fired when the content of a tab is going to be released. When the event is handled the content
+     * is still available via {@link Tab#getContent()}, so its state can be saved.
+     */
+    public static final EventType<TabEvent> TAB_HIBERNATED = new EventType<>(ANY, "TAB_HIBERNATED");
+
+    /**
+     * The event is fired when the content of a hibernated tab has been created again.
+     */
+    public static final EventType<TabEvent> TAB_RESTORED = new EventType<>(ANY, "TAB_RESTORED");
+
     private final Tab tab;
 
     public TabEvent(EventType<TabEvent> eventType, Tab tab) {
@@ -47,9 +58,9 @@ public class TabEvent extends Event {
     }
 
     /**
-     * Returns the tab involved in the drag-and-drop operation.
+     * Returns the tab involved in the drag-and-drop operation or the tab whose content was hibernated or restored.
      *
-     * @return the tab being dragged or dropped
+     * @return the tab of the event
      */
     public Tab getTab() {
         return tab;
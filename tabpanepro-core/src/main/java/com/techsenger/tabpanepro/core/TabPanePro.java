@@ -23,13 +23,21 @@ package com.techsenger.tabpanepro.core;
 
 import com.techsenger.tabpanepro.core.skin.DragAndDropContext;
 import com.techsenger.tabpanepro.core.skin.TabPaneProSkin;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.event.EventHandler;
+import javafx.scene.Node;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 
@@ -55,6 +63,32 @@ public class TabPanePro extends TabPane {
 
     private ObjectProperty<EventHandler<TabEvent>> onTabDropped;
 
+    private ObjectProperty<ContentAttachmentPolicy> contentAttachmentPolicy;
+
+    private IntegerProperty attachedContentLimit;
+
+    private ObjectProperty<Function<Tab, Node>> contentFactory;
+
+    private IntegerProperty liveContentLimit;
+
+    private IntegerProperty liveContentNodeBudget;
+
+    private BooleanProperty hiddenContentLayoutEnabled;
+
+    private ObjectProperty<PrefSizePolicy> prefSizePolicy;
+
+    private ObjectProperty<EventHandler<TabEvent>> onTabHibernated;
+
+    private ObjectProperty<EventHandler<TabEvent>> onTabRestored;
+
+    private IntegerProperty animatedTabChangeLimit;
+
+    private DoubleProperty animationLayoutBudget;
+
+    private ReadOnlyBooleanWrapper updating;
+
+    private int updateDepth;
+
     public TabPanePro() {
         this(null);
     }
@@ -402,4 +436,493 @@ public class TabPanePro extends TabPane {
     public final void setOnTabDropped(EventHandler<TabEvent> handler) {
         onTabDroppedProperty().set(handler);
     }
+
+    /**
+     * Defines which tab contents are attached to the scene graph.
+     * <p>
+     * By default, the contents of all tabs are attached and the contents of the tabs that are not selected are only
+     * invisible, so they take part in CSS processing and stay in memory as a part of the scene. Detaching them
+     * makes the size of the scene graph independent of the number of the tabs, but a content is attached again
+     * (and CSS is applied to it) when its tab is selected.
+     * <p>
+     * By default, this property is {@link ContentAttachmentPolicy#EAGER}.
+     *
+     * @return the property holding the content attachment policy
+     */
+    public final ObjectProperty<ContentAttachmentPolicy> contentAttachmentPolicyProperty() {
+        if (this.contentAttachmentPolicy == null) {
+            this.contentAttachmentPolicy = new SimpleObjectProperty<>(this, "contentAttachmentPolicy",
+                    ContentAttachmentPolicy.EAGER);
+        }
+        return this.contentAttachmentPolicy;
+    }
+
+    /**
+     * Returns the value of {@link #contentAttachmentPolicyProperty()}.
+     *
+     * @return the current content attachment policy
+     */
+    public final ContentAttachmentPolicy getContentAttachmentPolicy() {
+        return this.contentAttachmentPolicy == null ? ContentAttachmentPolicy.EAGER
+                : this.contentAttachmentPolicy.get();
+    }
+
+    /**
+     * Sets the value of {@link #contentAttachmentPolicyProperty()}.
+     *
+     * @param policy the content attachment policy
+     */
+    public final void setContentAttachmentPolicy(ContentAttachmentPolicy policy) {
+        contentAttachmentPolicyProperty().set(policy);
+    }
+
+    /**
+     * Defines the maximum number of the attached tab contents when the content attachment policy is
+     * {@link ContentAttachmentPolicy#RECENTLY_SELECTED}. The content of the selected tab is always attached.
+     * <p>
+     * By default, this property is {@code 3}.
+     *
+     * @return the property holding the maximum number of the attached contents
+     */
+    public final IntegerProperty attachedContentLimitProperty() {
+        if (this.attachedContentLimit == null) {
+            this.attachedContentLimit = new SimpleIntegerProperty(this, "attachedContentLimit", 3);
+        }
+        return this.attachedContentLimit;
+    }
+
+    /**
+     * Returns the value of {@link #attachedContentLimitProperty()}.
+     *
+     * @return the maximum number of the attached contents
+     */
+    public final int getAttachedContentLimit() {
+        return this.attachedContentLimit == null ? 3 : this.attachedContentLimit.get();
+    }
+
+    /**
+     * Sets the value of {@link #attachedContentLimitProperty()}.
+     *
+     * @param limit the maximum number of the attached contents
+     */
+    public final void setAttachedContentLimit(int limit) {
+        attachedContentLimitProperty().set(limit);
+    }
+
+    /**
+     * Defines the factory that creates the content of a tab.
+     * <p>
+     * When the factory is set, the content of a tab is created by the factory when the tab is selected and has no
+     * content, and the contents of the tabs that were not selected recently are hibernated, i.e. released by
+     * setting {@link Tab#getContent()} to {@code null}. The number of the tabs that keep their contents is defined
+     * by {@link #liveContentLimitProperty()} and {@link #liveContentNodeBudgetProperty()}. Before a content is
+     * released a {@link TabEvent#TAB_HIBERNATED} event is fired, after a content is created again a
+     * {@link TabEvent#TAB_RESTORED} event is fired, so the state of the content can be saved and restored.
+     * <p>
+     * If the factory is {@code null}, the contents are never released.
+     *
+     * @return the property holding the content factory
+     */
+    public final ObjectProperty<Function<Tab, Node>> contentFactoryProperty() {
+        if (this.contentFactory == null) {
+            this.contentFactory = new SimpleObjectProperty<>(this, "contentFactory");
+        }
+        return this.contentFactory;
+    }
+
+    /**
+     * Returns the value of {@link #contentFactoryProperty()}.
+     *
+     * @return the content factory or {@code null} if contents are never hibernated
+     */
+    public final Function<Tab, Node> getContentFactory() {
+        return this.contentFactory == null ? null : this.contentFactory.get();
+    }
+
+    /**
+     * Sets the value of {@link #contentFactoryProperty()}.
+     *
+     * @param factory the content factory or {@code null} to never hibernate contents
+     */
+    public final void setContentFactory(Function<Tab, Node> factory) {
+        contentFactoryProperty().set(factory);
+    }
+
+    /**
+     * Defines the maximum number of the tabs that keep their contents when the content factory is set. The tabs
+     * that were selected most recently keep their contents, the content of the selected tab is never released.
+     * <p>
+     * By default, this property is {@code 10}.
+     *
+     * @return the property holding the maximum number of the live contents
+     */
+    public final IntegerProperty liveContentLimitProperty() {
+        if (this.liveContentLimit == null) {
+            this.liveContentLimit = new SimpleIntegerProperty(this, "liveContentLimit", 10);
+        }
+        return this.liveContentLimit;
+    }
+
+    /**
+     * Returns the value of {@link #liveContentLimitProperty()}.
+     *
+     * @return the maximum number of the live contents
+     */
+    public final int getLiveContentLimit() {
+        return this.liveContentLimit == null ? 10 : this.liveContentLimit.get();
+    }
+
+    /**
+     * Sets the value of {@link #liveContentLimitProperty()}.
+     *
+     * @param limit the maximum number of the live contents
+     */
+    public final void setLiveContentLimit(int limit) {
+        liveContentLimitProperty().set(limit);
+    }
+
+    /**
+     * Defines the maximum total number of the nodes in the contents of the tabs that keep their contents when the
+     * content factory is set. When the budget is exceeded, the contents of the least recently selected tabs are
+     * hibernated. A value that is less than or equal to zero means that the budget is not used.
+     * <p>
+     * By default, this property is {@code 0}.
+     *
+     * @return the property holding the node budget of the live contents
+     */
+    public final IntegerProperty liveContentNodeBudgetProperty() {
+        if (this.liveContentNodeBudget == null) {
+            this.liveContentNodeBudget = new SimpleIntegerProperty(this, "liveContentNodeBudget", 0);
+        }
+        return this.liveContentNodeBudget;
+    }
+
+    /**
+     * Returns the value of {@link #liveContentNodeBudgetProperty()}.
+     *
+     * @return the node budget of the live contents
+     */
+    public final int getLiveContentNodeBudget() {
+        return this.liveContentNodeBudget == null ? 0 : this.liveContentNodeBudget.get();
+    }
+
+    /**
+     * Sets the value of {@link #liveContentNodeBudgetProperty()}.
+     *
+     * @param budget the node budget of the live contents, zero to not use the budget
+     */
+    public final void setLiveContentNodeBudget(int budget) {
+        liveContentNodeBudgetProperty().set(budget);
+    }
+
+    /**
+     * Defines whether the contents of the tabs that are not selected are laid out.
+     * <p>
+     * When this property is {@code true}, the contents of all tabs are resized on every layout pass, so the sizes
+     * of the hidden contents are always valid (see JDK-8116643). When {@code false}, only the content of the
+     * selected tab is resized and clipped; a hidden content is resized in the same layout pass in which its tab
+     * becomes selected.
+     * <p>
+     * By default, this property is {@code true}.
+     *
+     * @return the property representing whether hidden contents are laid out
+     */
+    public final BooleanProperty hiddenContentLayoutEnabledProperty() {
+        if (this.hiddenContentLayoutEnabled == null) {
+            this.hiddenContentLayoutEnabled = new SimpleBooleanProperty(this, "hiddenContentLayoutEnabled", true);
+        }
+        return this.hiddenContentLayoutEnabled;
+    }
+
+    /**
+     * Returns the value of {@link #hiddenContentLayoutEnabledProperty()}.
+     *
+     * @return {@code true} if hidden contents are laid out; {@code false} otherwise
+     */
+    public final boolean isHiddenContentLayoutEnabled() {
+        return this.hiddenContentLayoutEnabled == null ? true : this.hiddenContentLayoutEnabled.get();
+    }
+
+    /**
+     * Sets the value of {@link #hiddenContentLayoutEnabledProperty()}.
+     *
+     * @param enabled {@code true} to lay out hidden contents; {@code false} to lay out only the selected one
+     */
+    public final void setHiddenContentLayoutEnabled(boolean enabled) {
+        hiddenContentLayoutEnabledProperty().set(enabled);
+    }
+
+    /**
+     * Defines how the contents of the tabs are taken into account when the pref size of this tab pane is computed.
+     * <p>
+     * By default, this property is {@link PrefSizePolicy#MAX_OF_ALL}.
+     *
+     * @return the property holding the pref size policy
+     */
+    public final ObjectProperty<PrefSizePolicy> prefSizePolicyProperty() {
+        if (this.prefSizePolicy == null) {
+            this.prefSizePolicy = new SimpleObjectProperty<>(this, "prefSizePolicy", PrefSizePolicy.MAX_OF_ALL);
+        }
+        return this.prefSizePolicy;
+    }
+
+    /**
+     * Returns the value of {@link #prefSizePolicyProperty()}.
+     *
+     * @return the current pref size policy
+     */
+    public final PrefSizePolicy getPrefSizePolicy() {
+        return this.prefSizePolicy == null ? PrefSizePolicy.MAX_OF_ALL : this.prefSizePolicy.get();
+    }
+
+    /**
+     * Sets the value of {@link #prefSizePolicyProperty()}.
+     *
+     * @param policy the pref size policy
+     */
+    public final void setPrefSizePolicy(PrefSizePolicy policy) {
+        prefSizePolicyProperty().set(policy);
+    }
+
+    /**
+     * Defines the handler for {@link TabEvent#TAB_HIBERNATED} events.
+     * <p>
+     * This handler is invoked when the content of a tab is going to be released.
+     *
+     * @return the property holding the TAB_HIBERNATED event handler
+     */
+    public final ObjectProperty<EventHandler<TabEvent>> onTabHibernatedProperty() {
+        if (this.onTabHibernated == null) {
+            this.onTabHibernated = new ObjectPropertyBase<>() {
+                @Override
+                protected void invalidated() {
+                    setEventHandler(TabEvent.TAB_HIBERNATED, get());
+                }
+
+                @Override
+                public Object getBean() {
+                    return TabPanePro.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "onTabHibernated";
+                }
+            };
+        }
+        return onTabHibernated;
+    }
+
+    /**
+     * Returns the value of {@link #onTabHibernatedProperty()}.
+     *
+     * @return the current TAB_HIBERNATED event handler, or {@code null} if none is set
+     */
+    public final EventHandler<TabEvent> getOnTabHibernated() {
+        return onTabHibernatedProperty().get();
+    }
+
+    /**
+     * Sets the value of {@link #onTabHibernatedProperty()}.
+     *
+     * @param handler the handler to invoke when the content of a tab is going to be released,
+     *                or {@code null} to remove the current handler
+     */
+    public final void setOnTabHibernated(EventHandler<TabEvent> handler) {
+        onTabHibernatedProperty().set(handler);
+    }
+
+    /**
+     * Defines the handler for {@link TabEvent#TAB_RESTORED} events.
+     * <p>
+     * This handler is invoked when the content of a hibernated tab has been created again.
+     *
+     * @return the property holding the TAB_RESTORED event handler
+     */
+    public final ObjectProperty<EventHandler<TabEvent>> onTabRestoredProperty() {
+        if (this.onTabRestored == null) {
+            this.onTabRestored = new ObjectPropertyBase<>() {
+                @Override
+                protected void invalidated() {
+                    setEventHandler(TabEvent.TAB_RESTORED, get());
+                }
+
+                @Override
+                public Object getBean() {
+                    return TabPanePro.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "onTabRestored";
+                }
+            };
+        }
+        return onTabRestored;
+    }
+
+    /**
+     * Returns the value of {@link #onTabRestoredProperty()}.
+     *
+     * @return the current TAB_RESTORED event handler, or {@code null} if none is set
+     */
+    public final EventHandler<TabEvent> getOnTabRestored() {
+        return onTabRestoredProperty().get();
+    }
+
+    /**
+     * Sets the value of {@link #onTabRestoredProperty()}.
+     *
+     * @param handler the handler to invoke when the content of a hibernated tab has been created again,
+     *                or {@code null} to remove the current handler
+     */
+    public final void setOnTabRestored(EventHandler<TabEvent> handler) {
+        onTabRestoredProperty().set(handler);
+    }
+
+    /**
+     * Defines the maximum number of tabs that can be added or removed with the open/close animation in one change
+     * of the tabs or in one pulse.
+     * <p>
+     * When more tabs are added or removed (for example, when all other tabs are closed or a workspace is restored),
+     * the tabs are added and removed without animation, while a single user action keeps its animation.
+     * A negative value means no limit.
+     * <p>
+     * By default, this property is {@code 10}.
+     *
+     * @return the property holding the maximum number of animated tab changes
+     */
+    public final IntegerProperty animatedTabChangeLimitProperty() {
+        if (this.animatedTabChangeLimit == null) {
+            this.animatedTabChangeLimit = new SimpleIntegerProperty(this, "animatedTabChangeLimit", 10);
+        }
+        return this.animatedTabChangeLimit;
+    }
+
+    /**
+     * Returns the value of {@link #animatedTabChangeLimitProperty()}.
+     *
+     * @return the maximum number of animated tab changes
+     */
+    public final int getAnimatedTabChangeLimit() {
+        return this.animatedTabChangeLimit == null ? 10 : this.animatedTabChangeLimit.get();
+    }
+
+    /**
+     * Sets the value of {@link #animatedTabChangeLimitProperty()}.
+     *
+     * @param limit the maximum number of animated tab changes, a negative value for no limit
+     */
+    public final void setAnimatedTabChangeLimit(int limit) {
+        animatedTabChangeLimitProperty().set(limit);
+    }
+
+    /**
+     * Defines the layout time budget in milliseconds for the open/close animations of the tabs.
+     * <p>
+     * The skin measures the time that the recent pulses of the scene spent on CSS and layout. The rendering is not
+     * measured, so the budget should be only a part of the frame interval. When the measured time exceeds the budget,
+     * the tabs are added and removed without animation until the layout becomes faster again. Zero or a negative
+     * value disables this check.
+     * <p>
+     * By default, this property is {@code 0}.
+     *
+     * @return the property holding the layout time budget in milliseconds
+     */
+    public final DoubleProperty animationLayoutBudgetProperty() {
+        if (this.animationLayoutBudget == null) {
+            this.animationLayoutBudget = new SimpleDoubleProperty(this, "animationLayoutBudget", 0);
+        }
+        return this.animationLayoutBudget;
+    }
+
+    /**
+     * Returns the value of {@link #animationLayoutBudgetProperty()}.
+     *
+     * @return the layout time budget in milliseconds
+     */
+    public final double getAnimationLayoutBudget() {
+        return this.animationLayoutBudget == null ? 0 : this.animationLayoutBudget.get();
+    }
+
+    /**
+     * Sets the value of {@link #animationLayoutBudgetProperty()}.
+     *
+     * @param budget the layout time budget in milliseconds, zero to disable the check
+     */
+    public final void setAnimationLayoutBudget(double budget) {
+        animationLayoutBudgetProperty().set(budget);
+    }
+
+    /**
+     * Runs the given update of the tabs as a batch update.
+     * <p>
+     * While the batch update is in progress, the skin doesn't process the changes of the tabs. When the update
+     * has finished, the skin processes the difference between the tabs before and after the update at once, without
+     * open/close animations. So, for example, adding thousands of tabs in a batch update costs a single pass instead
+     * of one pass per added tab. Batch updates can be nested, the tabs are processed when the outermost update has
+     * finished.
+     *
+     * @param update the code that changes the tabs
+     */
+    public final void batchUpdate(Runnable update) {
+        beginUpdate();
+        try {
+            update.run();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Starts a batch update. Every call of this method must be followed by a call of {@link #endUpdate()}.
+     *
+     * @see #batchUpdate(Runnable)
+     */
+    public final void beginUpdate() {
+        if (this.updateDepth++ == 0) {
+            updatingPropertyImpl().set(true);
+        }
+    }
+
+    /**
+     * Finishes a batch update started by {@link #beginUpdate()}.
+     *
+     * @throws IllegalStateException if there is no batch update in progress
+     * @see #batchUpdate(Runnable)
+     */
+    public final void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No batch update is in progress");
+        }
+        if (--this.updateDepth == 0) {
+            updatingPropertyImpl().set(false);
+        }
+    }
+
+    /**
+     * Indicates whether a batch update of the tabs is in progress.
+     *
+     * @return the read-only property that is {@code true} while a batch update is in progress
+     * @see #batchUpdate(Runnable)
+     */
+    public final ReadOnlyBooleanProperty updatingProperty() {
+        return updatingPropertyImpl().getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the value of {@link #updatingProperty()}.
+     *
+     * @return {@code true} if a batch update is in progress; {@code false} otherwise
+     */
+    public final boolean isUpdating() {
+        return this.updating == null ? false : this.updating.get();
+    }
+
+    private ReadOnlyBooleanWrapper updatingPropertyImpl() {
+        if (this.updating == null) {
+            this.updating = new ReadOnlyBooleanWrapper(this, "updating", false);
+        }
+        return this.updating;
+    }
 }
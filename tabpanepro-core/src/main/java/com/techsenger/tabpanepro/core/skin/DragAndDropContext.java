@@ -24,7 +24,13 @@ package com.techsenger.tabpanepro.core.skin;
 import com.techsenger.tabpanepro.core.TabPanePro;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.control.Tab;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Popup;
 
 /**
  *
@@ -44,6 +50,16 @@ public class DragAndDropContext {
 
     private boolean dragInProgress = false;
 
+    /**
+     * The popup that shows the drag content. It is shared by all the drags, because showing a new window for every
+     * drag is expensive.
+     */
+    private Popup dragPopup;
+
+    private WritableImage dragSnapshot;
+
+    private ImageView dragSnapshotView;
+
     public Tab getTab() {
         return this.tab.get();
     }
@@ -76,6 +92,37 @@ public class DragAndDropContext {
         this.dragInProgress = dragInProgress;
     }
 
+    Popup getDragPopup() {
+        if (dragPopup == null) {
+            dragPopup = new Popup();
+            dragPopup.setAutoHide(false);
+        }
+        return dragPopup;
+    }
+
+    /**
+     * Renders the node into the snapshot image, reusing the image of the previous drag when it has the same size,
+     * and returns the view of this image.
+     */
+    ImageView createDragSnapshotView(Node node) {
+        var params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        var bounds = node.getBoundsInParent();
+        var width = (int) Math.ceil(bounds.getWidth());
+        var height = (int) Math.ceil(bounds.getHeight());
+        if (dragSnapshot != null && ((int) dragSnapshot.getWidth() != width
+                || (int) dragSnapshot.getHeight() != height)) {
+            dragSnapshot = null;
+        }
+        dragSnapshot = node.snapshot(params, dragSnapshot);
+        if (dragSnapshotView == null) {
+            dragSnapshotView = new ImageView();
+            dragSnapshotView.getStyleClass().add("tab-drag-snapshot");
+        }
+        dragSnapshotView.setImage(dragSnapshot);
+        return dragSnapshotView;
+    }
+
     void clear() {
         this.tab.set(null);
         this.targetTabPane.set(null);
@@ -29,28 +29,33 @@
  * June 18, 2025; June 20, 2025; June 21, 2025; June 22, 2025; June 23, 2025; June 24, 2025;
  * June 25, 2025; June 26, 2025; July 05, 2025; July 09, 2025; July 11, 2025; July 14, 2025;
  * July 18, 2025; August 12, 2025; August 20, 2025; August 31, 2025; October 22, 2025;
- * December 29, 2025; April 02, 2026;
+ * December 29, 2025; April 02, 2026; October 17, 2026;
  */
 
 package com.techsenger.tabpanepro.core.skin;
 
+import com.techsenger.tabpanepro.core.ContentAttachmentPolicy;
+import com.techsenger.tabpanepro.core.PrefSizePolicy;
 import com.techsenger.tabpanepro.core.TabEvent;
 import com.techsenger.tabpanepro.core.TabPanePro;
 import com.techsenger.tabpanepro.core.behavior.TabPaneBehavior;
 import com.techsenger.tabpanepro.core.control.LambdaMultiplePropertyChangeListenerHandler;
 import com.techsenger.tabpanepro.core.utils.Utils;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.animation.FadeTransition;
 import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
 import javafx.animation.Transition;
 import javafx.application.ConditionalFeature;
 import javafx.application.Platform;
@@ -59,6 +64,7 @@ import javafx.beans.Observable;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
@@ -68,12 +74,14 @@ import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.WritableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.WeakListChangeListener;
+import javafx.collections.transformation.FilteredList;
 import javafx.css.CssMetaData;
 import javafx.css.PseudoClass;
 import javafx.css.Styleable;
@@ -98,10 +106,13 @@ import javafx.scene.AccessibleAttribute;
 import javafx.scene.AccessibleRole;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Control;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.RadioMenuItem;
 import javafx.scene.control.SelectionModel;
@@ -110,11 +121,14 @@ import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import javafx.scene.control.TabPane.TabClosingPolicy;
 import javafx.scene.control.TabPane.TabDragPolicy;
+import javafx.scene.control.TextField;
 import javafx.scene.control.ToggleGroup;
 import javafx.scene.control.Tooltip;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.ContextMenuEvent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseDragEvent;
 import javafx.scene.input.MouseEvent;
@@ -122,6 +136,7 @@ import javafx.scene.input.ScrollEvent;
 import javafx.scene.input.SwipeEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.transform.Rotate;
 import javafx.stage.Popup;
@@ -143,7 +158,12 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
     private enum TabAnimation {
         NONE,
-        GROW
+        GROW,
+        /**
+         * The headers are laid out at their final positions once, the animated header is scaled and its successors
+         * are translated, so the frames of the animation don't require layout.
+         */
+        SCALE
         // In future we could add FADE, ...
     }
 
@@ -173,6 +193,91 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
     private TabHeaderArea tabHeaderArea;
     private ObservableList<TabContentRegion> tabContentRegions;
+
+    private final TabAnimationDriver animationDriver = new TabAnimationDriver();
+
+    /**
+     * The number of the tabs added or removed since the beginning of the current pulse.
+     */
+    private int tabChangeCountInPulse;
+
+    private long layoutStartTime = -1;
+
+    /**
+     * The smoothed time in milliseconds that the recent pulses spent on CSS and layout. The rendering is not
+     * included, so it is compared with a layout time budget, not with a frame time budget.
+     */
+    private double recentLayoutTime;
+
+    private Scene pulseScene;
+
+    private final Runnable preLayoutPulseListener = () -> {
+        tabChangeCountInPulse = 0;
+        layoutStartTime = System.nanoTime();
+    };
+
+    private final Runnable postLayoutPulseListener = () -> {
+        if (layoutStartTime >= 0) {
+            double layoutTime = (System.nanoTime() - layoutStartTime) / 1_000_000.0;
+            recentLayoutTime = recentLayoutTime * 0.75 + layoutTime * 0.25;
+            layoutStartTime = -1;
+        }
+    };
+
+    /**
+     * The content regions by their tabs. Tabs are compared by identity as Tab doesn't override equals().
+     */
+    private final Map<Tab, TabContentRegion> tabContentRegionsByTab = new IdentityHashMap<>();
+
+    /**
+     * The tabs in the order of their selection, the most recently selected tab is the first one.
+     */
+    private final ArrayDeque<Tab> recentlySelectedTabs = new ArrayDeque<>();
+
+    /**
+     * The content regions that are the children of the skin.
+     */
+    private final Set<TabContentRegion> attachedContentRegions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * The tabs whose contents were released by the skin.
+     */
+    private final Set<Tab> hibernatedTabs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * The tabs that have contents, the most recently selected tab is the first one. The tabs that have never been
+     * selected are the least recently selected ones.
+     */
+    private final ArrayDeque<Tab> liveContentTabs = new ArrayDeque<>();
+
+    /**
+     * The node counts of the contents of the tabs, computed when the contents are set. The counts are computed only
+     * when there is a node budget, otherwise they are zero.
+     */
+    private final Map<Tab, Integer> liveContentNodeCounts = new IdentityHashMap<>();
+
+    /**
+     * The sum of {@link #liveContentNodeCounts}.
+     */
+    private long liveContentNodeCount;
+
+    /**
+     * The cached pref sizes (width, height) of the attached content regions, used by
+     * {@link PrefSizePolicy#CACHED_MAX}.
+     */
+    private final Map<TabContentRegion, double[]> contentPrefSizes = new IdentityHashMap<>();
+
+    /**
+     * The attached content regions that requested layout since their pref sizes were cached.
+     */
+    private final Set<TabContentRegion> prefSizeDirtyContentRegions =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private double maxContentPrefWidth;
+
+    private double maxContentPrefHeight;
+
+    private boolean maxContentPrefSizeValid;
     private Rectangle clipRect;
     private Rectangle tabHeaderAreaClipRect;
     private Tab selectedTab;
@@ -218,6 +323,9 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
         initializeTabListener();
         updateSelectionModel();
+        if (control.isUpdating()) {
+            beginTabsUpdate();
+        }
 
         registerChangeListener(control.selectionModelProperty(), e -> updateSelectionModel());
         registerChangeListener(control.sideProperty(), e -> {
@@ -233,7 +341,28 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             clipRect.setHeight(getSkinnable().getHeight());
         });
         registerChangeListener(control.getSelectionModel().selectedItemProperty(), e -> {
-            tabHeaderArea.updateTabHeaderViewOrder(false);
+            if (tabsBeforeUpdate == null) {
+                tabHeaderArea.updateTabHeaderViewOrder(false);
+            }
+        });
+        registerChangeListener(control.sceneProperty(), e -> updatePulseScene());
+        updatePulseScene();
+        registerChangeListener(control.updatingProperty(), e -> {
+            if (getSkinnable().isUpdating()) {
+                beginTabsUpdate();
+            } else {
+                endTabsUpdate();
+            }
+        });
+        registerChangeListener(control.contentAttachmentPolicyProperty(), e -> updateContentAttachment());
+        registerChangeListener(control.attachedContentLimitProperty(), e -> updateContentAttachment());
+        registerChangeListener(control.contentFactoryProperty(), e -> updateContentHibernation());
+        registerChangeListener(control.hiddenContentLayoutEnabledProperty(), e -> getSkinnable().requestLayout());
+        registerChangeListener(control.prefSizePolicyProperty(), e -> getSkinnable().requestLayout());
+        registerChangeListener(control.liveContentLimitProperty(), e -> updateContentHibernation());
+        registerChangeListener(control.liveContentNodeBudgetProperty(), e -> {
+            updateLiveContentNodeCounts();
+            updateContentHibernation();
         });
 
         selectedTab = getSkinnable().getSelectionModel().getSelectedItem();
@@ -247,6 +376,9 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             getSkinnable().getSelectionModel().selectFirst();
         }
         selectedTab = getSkinnable().getSelectionModel().getSelectedItem();
+        updateRecentlySelectedTabs();
+        updateContentHibernation();
+        updateContentAttachment();
 
         initializeSwipeHandlers();
     }
@@ -255,6 +387,14 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         return tabHeaderArea;
     }
 
+    TabsMenuManager getTabsMenuManager() {
+        return tabHeaderArea.tabsMenuManager;
+    }
+
+    TabAnimationDriver getAnimationDriver() {
+        return animationDriver;
+    }
+
     /* *************************************************************************
      *                                                                         *
      * Properties                                                              *
@@ -304,6 +444,12 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             selectionModel = null;
         }
         getSkinnable().getTabs().removeListener(weakTabsListener);
+        animationDriver.stop();
+        if (pulseScene != null) {
+            pulseScene.removePreLayoutPulseListener(preLayoutPulseListener);
+            pulseScene.removePostLayoutPulseListener(postLayoutPulseListener);
+            pulseScene = null;
+        }
         tabHeaderArea.dispose();
 
         // Control and Skin share the list of children, so children that are
@@ -325,8 +471,21 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
     @Override protected double computePrefWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
         // The TabPane can only be as wide as it widest content width.
         double maxw = 0.0;
-        for (TabContentRegion contentRegion: tabContentRegions) {
-            maxw = Math.max(maxw, snapSizeX(contentRegion.prefWidth(-1)));
+        switch (getPrefSizePolicy()) {
+            case SELECTED_ONLY:
+                var selectedRegion = getSelectedContentRegion();
+                if (selectedRegion != null) {
+                    maxw = snapSizeX(selectedRegion.prefWidth(-1));
+                }
+                break;
+            case CACHED_MAX:
+                updateMaxContentPrefSize();
+                maxw = maxContentPrefWidth;
+                break;
+            default:
+                for (TabContentRegion contentRegion: attachedContentRegions) {
+                    maxw = Math.max(maxw, snapSizeX(contentRegion.prefWidth(-1)));
+                }
         }
 
         final boolean isHorizontal = isHorizontal();
@@ -343,8 +502,21 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
     @Override protected double computePrefHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
         // The TabPane can only be as high as it highest content height.
         double maxh = 0.0;
-        for (TabContentRegion contentRegion: tabContentRegions) {
-            maxh = Math.max(maxh, snapSizeY(contentRegion.prefHeight(-1)));
+        switch (getPrefSizePolicy()) {
+            case SELECTED_ONLY:
+                var selectedRegion = getSelectedContentRegion();
+                if (selectedRegion != null) {
+                    maxh = snapSizeY(selectedRegion.prefHeight(-1));
+                }
+                break;
+            case CACHED_MAX:
+                updateMaxContentPrefSize();
+                maxh = maxContentPrefHeight;
+                break;
+            default:
+                for (TabContentRegion contentRegion: attachedContentRegions) {
+                    maxh = Math.max(maxh, snapSizeY(contentRegion.prefHeight(-1)));
+                }
         }
 
         final boolean isHorizontal = isHorizontal();
@@ -451,21 +623,38 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
         double contentWidth = w - (isHorizontal() ? 0 : headerHeight);
         double contentHeight = h - (isHorizontal() ? headerHeight: 0);
-
-        for (int i = 0, max = tabContentRegions.size(); i < max; i++) {
-            TabContentRegion tabContent = tabContentRegions.get(i);
-
-            tabContent.setAlignment(Pos.TOP_LEFT);
-            if (tabContent.getClip() != null) {
-                ((Rectangle)tabContent.getClip()).setWidth(contentWidth);
-                ((Rectangle)tabContent.getClip()).setHeight(contentHeight);
+        boolean hiddenContentLayoutEnabled = getSkinnable().isHiddenContentLayoutEnabled();
+
+        if (hiddenContentLayoutEnabled) {
+            for (int i = 0, max = tabContentRegions.size(); i < max; i++) {
+                TabContentRegion tabContent = tabContentRegions.get(i);
+                // detached content is laid out when it is attached
+                if (tabContent.getParent() != null) {
+                    layoutTabContent(tabContent, contentStartX, contentStartY, contentWidth, contentHeight);
+                }
+            }
+        } else {
+            // only the content of the selected tab is visible, the selection change requests the layout, so
+            // the content is resized before it is shown
+            var tabContent = selectedTab == null ? null : tabContentRegionsByTab.get(selectedTab);
+            if (tabContent != null && tabContent.getParent() != null && tabContent.isVisible()) {
+                layoutTabContent(tabContent, contentStartX, contentStartY, contentWidth, contentHeight);
             }
+        }
+    }
 
-            // we need to size all tabs, even if they aren't visible. For example,
-            // see JDK-8116643
-            tabContent.resize(contentWidth, contentHeight);
-            tabContent.relocate(contentStartX, contentStartY);
+    private void layoutTabContent(TabContentRegion tabContent, double contentStartX, double contentStartY,
+            double contentWidth, double contentHeight) {
+        tabContent.setAlignment(Pos.TOP_LEFT);
+        if (tabContent.getClip() != null) {
+            ((Rectangle)tabContent.getClip()).setWidth(contentWidth);
+            ((Rectangle)tabContent.getClip()).setHeight(contentHeight);
         }
+
+        // we need to size all tabs, even if they aren't visible. For example,
+        // see JDK-8116643
+        tabContent.resize(contentWidth, contentHeight);
+        tabContent.relocate(contentStartX, contentStartY);
     }
 
     /* *************************************************************************
@@ -478,6 +667,9 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
     private InvalidationListener selectionChangeListener = observable -> {
         tabHeaderArea.invalidateScrollOffset();
         selectedTab = getSkinnable().getSelectionModel().getSelectedItem();
+        updateRecentlySelectedTabs();
+        updateContentHibernation();
+        updateContentAttachment();
         getSkinnable().requestLayout();
     };
     private WeakInvalidationListener weakSelectionChangeListener =
@@ -532,12 +724,23 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
     }
 
     private void removeTabs(List<? extends Tab> removedList) {
+        if (tabHeaderArea.isVirtualized()) {
+            // headers are released by the header area when it is synchronized with the tabs
+            for (final Tab tab : removedList) {
+                removeTabContent(tab);
+            }
+            return;
+        }
+        var animation = closeTabAnimation.get();
+        var animate = Platform.isFxApplicationThread() && animation != TabAnimation.NONE
+                && isTabAnimationAllowed(removedList.size());
         for (final Tab tab : removedList) {
             stopCurrentAnimation(tab);
             // Animate the tab removal
             final TabHeaderSkin tabRegion = tabHeaderArea.getTabHeaderSkin(tab);
             if (tabRegion != null) {
                 tabRegion.isClosing = true;
+                tabHeaderArea.closingTabHeaders.add(tabRegion);
 
                 tabRegion.dispose();
                 removeTabContent(tab);
@@ -546,14 +749,13 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                     tabRegion.setAnimationState(TabAnimationState.NONE);
 
                     tabHeaderArea.removeTab(tab);
+                    tabHeaderArea.recycleTabHeader(tabRegion);
                     tabHeaderArea.requestLayout();
                 };
 
-                if (Platform.isFxApplicationThread() && (closeTabAnimation.get() == TabAnimation.GROW)) {
+                if (animate) {
                     tabRegion.setAnimationState(TabAnimationState.HIDING);
-                    Timeline closedTabTimeline = tabRegion.currentAnimation =
-                            createTimeline(tabRegion, Duration.millis(ANIMATION_SPEED), 0.0F, cleanup);
-                    closedTabTimeline.play();
+                    animationDriver.play(tabRegion, 0.0, animation == TabAnimation.SCALE, cleanup);
                 } else {
                     cleanup.handle(null);
                 }
@@ -561,20 +763,54 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         }
     }
 
+    /**
+     * Registers the changed tabs and returns whether they can be added or removed with animation, see
+     * {@link TabPanePro#animatedTabChangeLimitProperty()} and {@link TabPanePro#animationLayoutBudgetProperty()}.
+     */
+    private boolean isTabAnimationAllowed(int changedTabCount) {
+        tabChangeCountInPulse += changedTabCount;
+        var limit = getSkinnable().getAnimatedTabChangeLimit();
+        if (limit >= 0 && tabChangeCountInPulse > limit) {
+            return false;
+        }
+        var budget = getSkinnable().getAnimationLayoutBudget();
+        return budget <= 0 || recentLayoutTime <= budget;
+    }
+
+    private void updatePulseScene() {
+        var scene = getSkinnable().getScene();
+        if (scene == pulseScene) {
+            return;
+        }
+        if (pulseScene != null) {
+            pulseScene.removePreLayoutPulseListener(preLayoutPulseListener);
+            pulseScene.removePostLayoutPulseListener(postLayoutPulseListener);
+        }
+        pulseScene = scene;
+        recentLayoutTime = 0;
+        layoutStartTime = -1;
+        if (pulseScene != null) {
+            pulseScene.addPreLayoutPulseListener(preLayoutPulseListener);
+            pulseScene.addPostLayoutPulseListener(postLayoutPulseListener);
+        }
+    }
+
     private void stopCurrentAnimation(Tab tab) {
         final TabHeaderSkin tabRegion = tabHeaderArea.getTabHeaderSkin(tab);
         if (tabRegion != null) {
             // Execute the code immediately, don't wait for the animation to finish.
-            Timeline timeline = tabRegion.currentAnimation;
-            if (timeline != null && timeline.getStatus() == Animation.Status.RUNNING) {
-                timeline.getOnFinished().handle(null);
-                timeline.stop();
-                tabRegion.currentAnimation = null;
-            }
+            animationDriver.finish(tabRegion);
         }
     }
 
     private void addTabs(List<? extends Tab> addedList, int from) {
+        if (tabHeaderArea.isVirtualized()) {
+            // headers are created by the header area only when they become visible
+            for (final Tab tab : addedList) {
+                addTabContent(tab);
+            }
+            return;
+        }
         int i = 0;
 
         // JDK-8093620: check if any other tabs are animating - they must be completed first.
@@ -587,6 +823,9 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         }
         // end of fix for JDK-8093620
 
+        var animation = openTabAnimation.get();
+        var animate = Platform.isFxApplicationThread() && animation != TabAnimation.NONE
+                && isTabAnimationAllowed(addedList.size());
         for (final Tab tab : addedList) {
             stopCurrentAnimation(tab); // Note that this must happen before addTab() call below
             // A new tab was added - animate it out
@@ -595,16 +834,22 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             addTabContent(tab);
             final TabHeaderSkin tabRegion = tabHeaderArea.getTabHeaderSkin(tab);
             if (tabRegion != null) {
-                if (Platform.isFxApplicationThread() && (openTabAnimation.get() == TabAnimation.GROW)) {
+                if (animate && animation == TabAnimation.SCALE) {
+                    tabRegion.setAnimationState(TabAnimationState.SHOWING);
+                    tabRegion.setVisible(true);
+                    tabRegion.inner.requestLayout();
+                    animationDriver.play(tabRegion, 0.0, 1.0, true, event -> {
+                        tabRegion.setAnimationState(TabAnimationState.NONE);
+                    });
+                } else if (animate) {
                     tabRegion.setAnimationState(TabAnimationState.SHOWING);
                     tabRegion.animationTransition.setValue(0.0);
                     tabRegion.setVisible(true);
-                    tabRegion.currentAnimation = createTimeline(tabRegion, Duration.millis(ANIMATION_SPEED), 1.0, event -> {
+                    animationDriver.play(tabRegion, 1.0, false, event -> {
                         tabRegion.setAnimationState(TabAnimationState.NONE);
                         tabRegion.setVisible(true);
                         tabRegion.inner.requestLayout();
                     });
-                    tabRegion.currentAnimation.play();
                 } else {
                     tabRegion.setVisible(true);
                     tabRegion.inner.requestLayout();
@@ -617,9 +862,14 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
     WeakListChangeListener<Tab> weakTabsListener;
     private boolean reoderingInProgress = false;
 
+    /**
+     * The tabs at the beginning of the batch update of the tab pane or {@code null} if there is no batch update.
+     */
+    private List<Tab> tabsBeforeUpdate;
+
     private void initializeTabListener() {
         tabsListener = c -> {
-            if (reoderingInProgress) {
+            if (reoderingInProgress || tabsBeforeUpdate != null) {
                 return;
             }
 
@@ -630,33 +880,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             while (c.next()) {
                 if (c.wasPermutated()) {
                     if (dragState != DragState.REORDER) {
-                        TabPane tabPane = getSkinnable();
-                        List<Tab> tabs = tabPane.getTabs();
-
-                        // tabs sorted : create list of permutated tabs.
-                        // clear selection, set tab animation to NONE
-                        // remove permutated tabs, add them back in correct order.
-                        // restore old selection, and old tab animation states.
-                        int size = c.getTo() - c.getFrom();
-                        Tab selTab = tabPane.getSelectionModel().getSelectedItem();
-                        List<Tab> permutatedTabs = new ArrayList<>(size);
-                        getSkinnable().getSelectionModel().clearSelection();
-
-                        // save and set tab animation to none - as it is not a good idea
-                        // to animate on the same data for open and close.
-                        TabAnimation prevOpenAnimation = openTabAnimation.get();
-                        TabAnimation prevCloseAnimation = closeTabAnimation.get();
-                        openTabAnimation.set(TabAnimation.NONE);
-                        closeTabAnimation.set(TabAnimation.NONE);
-                        for (int i = c.getFrom(); i < c.getTo(); i++) {
-                            permutatedTabs.add(tabs.get(i));
-                        }
-
-                        removeTabs(permutatedTabs);
-                        addTabs(permutatedTabs, c.getFrom());
-                        openTabAnimation.set(prevOpenAnimation);
-                        closeTabAnimation.set(prevCloseAnimation);
-                        getSkinnable().getSelectionModel().select(selTab);
+                        permuteTabs(c);
                     }
                 }
 
@@ -669,25 +893,36 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             }
 
             // now only remove the tabs that are not in the tabsToAdd list
-            tabsToRemove.removeAll(tabsToAdd);
+            if (!tabsToAdd.isEmpty()) {
+                Set<Tab> addedTabs = Collections.newSetFromMap(new IdentityHashMap<>(tabsToAdd.size()));
+                addedTabs.addAll(tabsToAdd);
+                tabsToRemove.removeIf(addedTabs::contains);
+            }
             removeTabs(tabsToRemove);
 
             // and add in any new tabs (that we don't already have showing)
             List<Pair<Integer, TabHeaderSkin>> headersToMove = new ArrayList();
             if (!tabsToAdd.isEmpty()) {
-                for (TabContentRegion tabContentRegion : tabContentRegions) {
-                    Tab tab = tabContentRegion.getTab();
+                var tabsToAddIterator = tabsToAdd.iterator();
+                while (tabsToAddIterator.hasNext()) {
+                    Tab tab = tabsToAddIterator.next();
+                    if (!tabContentRegionsByTab.containsKey(tab)) {
+                        continue;
+                    }
                     TabHeaderSkin tabHeader = tabHeaderArea.getTabHeaderSkin(tab);
-                    if (!tabHeader.isClosing && tabsToAdd.contains(tabContentRegion.getTab())) {
-                        tabsToAdd.remove(tabContentRegion.getTab());
+                    // in the virtualized mode a tab may have no header at all
+                    if (tabHeader == null || !tabHeader.isClosing) {
+                        tabsToAddIterator.remove();
 
                         // If a tab is removed and added back at the same time,
                         // then we must ensure that the index of tabHeader in
                         // headersRegion is same as index of tab in getTabs().
-                        int tabIndex = getSkinnable().getTabs().indexOf(tab);
-                        int tabHeaderIndex = tabHeaderArea.headersRegion.getChildren().indexOf(tabHeader);
-                        if (tabIndex != tabHeaderIndex) {
-                            headersToMove.add(new Pair(tabIndex, tabHeader));
+                        if (tabHeader != null && !tabHeaderArea.isVirtualized()) {
+                            int tabIndex = getSkinnable().getTabs().indexOf(tab);
+                            int tabHeaderIndex = tabHeaderArea.indexOfTabHeader(tabHeader);
+                            if (tabIndex != tabHeaderIndex) {
+                                headersToMove.add(new Pair(tabIndex, tabHeader));
+                            }
                         }
                     }
                 }
@@ -699,6 +934,12 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                     tabHeaderArea.moveTab(move.getKey(), move.getValue());
                 }
             }
+            if (tabHeaderArea.isVirtualized()) {
+                c.reset();
+                tabHeaderArea.updateVirtualTabs(c);
+            }
+            // the tab could have been selected before its content region was created
+            updateContentAttachment();
 
             tabHeaderArea.updateTabHeaderViewOrder(false);
             // Fix for JDK-8122662
@@ -708,27 +949,367 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         getSkinnable().getTabs().addListener(weakTabsListener);
     }
 
+    /**
+     * Moves the existing headers and content regions to the new positions of their tabs, so the headers, their
+     * listeners and the selection are kept.
+     */
+    private void permuteTabs(ListChangeListener.Change<? extends Tab> c) {
+        if (!tabHeaderArea.isVirtualized()) {
+            // the closing headers must be removed first, so the headers correspond to the tabs
+            for (Node child : new ArrayList<>(tabHeaderArea.headersRegion.getChildren())) {
+                TabHeaderSkin header = (TabHeaderSkin) child;
+                if (header.getAnimationState() == TabAnimationState.HIDING) {
+                    stopCurrentAnimation(header.getTab());
+                }
+            }
+            var children = tabHeaderArea.headersRegion.getChildren();
+            List<Node> headers = new ArrayList<>(children);
+            for (int i = c.getFrom(); i < c.getTo(); i++) {
+                headers.set(c.getPermutation(i), children.get(i));
+            }
+            children.setAll(headers);
+            tabHeaderArea.invalidateScrollOffset();
+        }
+        List<TabContentRegion> contentRegions = new ArrayList<>(tabContentRegions.size());
+        for (Tab tab : getSkinnable().getTabs()) {
+            var contentRegion = tabContentRegionsByTab.get(tab);
+            if (contentRegion != null) {
+                contentRegions.add(contentRegion);
+            }
+        }
+        tabContentRegions.setAll(contentRegions);
+        for (int i = 0; i < contentRegions.size(); i++) {
+            contentRegions.get(i).setIndex(i);
+        }
+    }
+
+    private void beginTabsUpdate() {
+        tabsBeforeUpdate = new ArrayList<>(getSkinnable().getTabs());
+    }
+
+    /**
+     * Processes the difference between the tabs before and after the batch update at once. The tabs are added and
+     * removed without animations.
+     */
+    private void endTabsUpdate() {
+        if (tabsBeforeUpdate == null) {
+            return;
+        }
+        List<Tab> oldTabs = tabsBeforeUpdate;
+        tabsBeforeUpdate = null;
+        var tabs = getSkinnable().getTabs();
+        Set<Tab> oldTabSet = Collections.newSetFromMap(new IdentityHashMap<>(oldTabs.size()));
+        oldTabSet.addAll(oldTabs);
+        Set<Tab> newTabSet = Collections.newSetFromMap(new IdentityHashMap<>(tabs.size()));
+        newTabSet.addAll(tabs);
+
+        // all the running animations must be completed, so the headers region contains only the real headers
+        for (Node child : new ArrayList<>(tabHeaderArea.headersRegion.getChildren())) {
+            stopCurrentAnimation(((TabHeaderSkin) child).getTab());
+        }
+        tabHeaderArea.updateNoTabsState();
+        var virtual = tabHeaderArea.isVirtualized();
+        List<TabHeaderSkin> removedHeaders = new ArrayList<>();
+        for (Tab tab : oldTabs) {
+            if (!newTabSet.contains(tab)) {
+                TabHeaderSkin header = virtual ? null : tabHeaderArea.getTabHeaderSkin(tab);
+                if (header != null) {
+                    header.dispose();
+                    removedHeaders.add(header);
+                }
+                removeTabContent(tab);
+            }
+        }
+        for (Tab tab : tabs) {
+            if (!oldTabSet.contains(tab)) {
+                addTabContent(tab);
+            }
+        }
+
+        if (virtual) {
+            tabHeaderArea.syncVirtualTabs();
+        } else if (tabs.isEmpty()) {
+            tabHeaderArea.headersRegion.getChildren().removeIf(n -> !((TabHeaderSkin) n).context.isPhantom());
+        } else {
+            List<TabHeaderSkin> headers = new ArrayList<>(tabs.size());
+            for (Tab tab : tabs) {
+                TabHeaderSkin header = tabHeaderArea.getTabHeaderSkin(tab);
+                if (header == null) {
+                    header = tabHeaderArea.createTabHeader(tab, false);
+                    header.setVisible(true);
+                }
+                headers.add(header);
+            }
+            tabHeaderArea.headersRegion.getChildren().setAll(headers);
+            tabHeaderArea.invalidateScrollOffset();
+        }
+        for (TabHeaderSkin header : removedHeaders) {
+            tabHeaderArea.recycleTabHeader(header);
+        }
+        // the tabs selected during the update have got their content regions only now
+        updateContentAttachment();
+        tabHeaderArea.tabsMenuManager.invalidatePopupMenu();
+        tabHeaderArea.updateTabHeaderViewOrder(false);
+        getSkinnable().requestLayout();
+    }
+
     private void addTabContent(Tab tab) {
         TabContentRegion tabContentRegion = new TabContentRegion(tab);
         tabContentRegion.setClip(new Rectangle());
+        tabContentRegion.setIndex(tabContentRegions.size());
         tabContentRegions.add(tabContentRegion);
-        // We want the tab content to always sit below the tab headers
-        getChildren().add(0, tabContentRegion);
+        tabContentRegionsByTab.put(tab, tabContentRegion);
+        tabContentRegion.setOnLayoutRequested(this::invalidateContentPrefSize);
+        tabContentRegion.setOnContentChanged(r -> updateLiveContent(r.getTab()));
+        updateLiveContent(tab);
+        if (getContentAttachmentPolicy() == ContentAttachmentPolicy.EAGER || tab == selectedTab) {
+            attachTabContent(tabContentRegion);
+        }
     }
 
-    private void removeTabContent(Tab tab) {
-        for (TabContentRegion contentRegion : tabContentRegions) {
-            if (contentRegion.getTab().equals(tab)) {
-                removeTabContent(contentRegion);
+    private void attachTabContent(TabContentRegion contentRegion) {
+        if (attachedContentRegions.add(contentRegion)) {
+            // We want the tab content to always sit below the tab headers
+            getChildren().add(0, contentRegion);
+            prefSizeDirtyContentRegions.add(contentRegion);
+        }
+    }
+
+    private void detachTabContent(TabContentRegion contentRegion) {
+        if (attachedContentRegions.remove(contentRegion)) {
+            getChildren().remove(contentRegion);
+            prefSizeDirtyContentRegions.remove(contentRegion);
+            var prefSize = contentPrefSizes.remove(contentRegion);
+            if (prefSize != null && (prefSize[0] >= maxContentPrefWidth || prefSize[1] >= maxContentPrefHeight)) {
+                maxContentPrefSizeValid = false;
+            }
+        }
+    }
+
+    private PrefSizePolicy getPrefSizePolicy() {
+        var policy = getSkinnable().getPrefSizePolicy();
+        return policy == null ? PrefSizePolicy.MAX_OF_ALL : policy;
+    }
+
+    private TabContentRegion getSelectedContentRegion() {
+        if (selectedTab == null) {
+            return null;
+        }
+        var contentRegion = tabContentRegionsByTab.get(selectedTab);
+        return contentRegion != null && contentRegion.getParent() != null ? contentRegion : null;
+    }
+
+    private void invalidateContentPrefSize(TabContentRegion contentRegion) {
+        if (attachedContentRegions.contains(contentRegion)) {
+            prefSizeDirtyContentRegions.add(contentRegion);
+        }
+    }
+
+    /**
+     * Measures the content regions that requested layout and updates the maximum of the cached pref sizes.
+     */
+    private void updateMaxContentPrefSize() {
+        for (TabContentRegion contentRegion : prefSizeDirtyContentRegions) {
+            var width = snapSizeX(contentRegion.prefWidth(-1));
+            var height = snapSizeY(contentRegion.prefHeight(-1));
+            var oldPrefSize = contentPrefSizes.put(contentRegion, new double[] {width, height});
+            if (oldPrefSize != null && ((oldPrefSize[0] >= maxContentPrefWidth && width < oldPrefSize[0])
+                    || (oldPrefSize[1] >= maxContentPrefHeight && height < oldPrefSize[1]))) {
+                // the region that defined the maximum has shrunk
+                maxContentPrefSizeValid = false;
+            } else if (maxContentPrefSizeValid) {
+                maxContentPrefWidth = Math.max(maxContentPrefWidth, width);
+                maxContentPrefHeight = Math.max(maxContentPrefHeight, height);
+            }
+        }
+        prefSizeDirtyContentRegions.clear();
+        if (!maxContentPrefSizeValid) {
+            maxContentPrefWidth = 0;
+            maxContentPrefHeight = 0;
+            for (double[] prefSize : contentPrefSizes.values()) {
+                maxContentPrefWidth = Math.max(maxContentPrefWidth, prefSize[0]);
+                maxContentPrefHeight = Math.max(maxContentPrefHeight, prefSize[1]);
+            }
+            maxContentPrefSizeValid = true;
+        }
+    }
+
+    private ContentAttachmentPolicy getContentAttachmentPolicy() {
+        var policy = getSkinnable().getContentAttachmentPolicy();
+        return policy == null ? ContentAttachmentPolicy.EAGER : policy;
+    }
+
+    private void updateRecentlySelectedTabs() {
+        if (selectedTab != null && recentlySelectedTabs.peekFirst() != selectedTab) {
+            recentlySelectedTabs.removeFirstOccurrence(selectedTab);
+            recentlySelectedTabs.addFirst(selectedTab);
+        }
+    }
+
+    /**
+     * Creates the content of the selected tab if it has no content and releases the contents of the tabs that were
+     * not selected recently. Does nothing if there is no content factory.
+     */
+    private void updateContentHibernation() {
+        var factory = getSkinnable().getContentFactory();
+        if (factory == null) {
+            return;
+        }
+        if (selectedTab != null && selectedTab.getContent() == null && !selectedTab.contentProperty().isBound()) {
+            var restored = hibernatedTabs.remove(selectedTab);
+            selectedTab.setContent(factory.apply(selectedTab));
+            if (restored) {
+                getSkinnable().fireEvent(new TabEvent(TabEvent.TAB_RESTORED, selectedTab));
+            }
+        }
+        if (selectedTab != null && liveContentTabs.peekFirst() != selectedTab
+                && liveContentNodeCounts.containsKey(selectedTab)) {
+            liveContentTabs.removeFirstOccurrence(selectedTab);
+            liveContentTabs.addFirst(selectedTab);
+        }
+        int limit = Math.max(1, getSkinnable().getLiveContentLimit());
+        int budget = getSkinnable().getLiveContentNodeBudget();
+        int liveCount = liveContentNodeCounts.size();
+        long liveNodeCount = liveContentNodeCount;
+        if (liveCount <= limit && (budget <= 0 || liveNodeCount <= budget)) {
+            return;
+        }
+        // only the tabs that will be hibernated are visited, starting from the least recently selected one
+        List<Tab> tabsToHibernate = new ArrayList<>();
+        var iterator = liveContentTabs.descendingIterator();
+        while ((liveCount > limit || (budget > 0 && liveNodeCount > budget)) && iterator.hasNext()) {
+            var tab = iterator.next();
+            if (tab == selectedTab || tab.contentProperty().isBound()) {
+                continue;
+            }
+            tabsToHibernate.add(tab);
+            liveCount--;
+            liveNodeCount -= liveContentNodeCounts.get(tab);
+        }
+        for (Tab tab : tabsToHibernate) {
+            getSkinnable().fireEvent(new TabEvent(TabEvent.TAB_HIBERNATED, tab));
+            tab.setContent(null);
+            hibernatedTabs.add(tab);
+        }
+    }
+
+    /**
+     * Updates the cached node count of the content of the tab after the content was set, restored or released.
+     */
+    private void updateLiveContent(Tab tab) {
+        var previousCount = liveContentNodeCounts.remove(tab);
+        if (previousCount != null) {
+            liveContentNodeCount -= previousCount;
+        }
+        var content = tab.getContent();
+        if (content == null) {
+            if (previousCount != null) {
+                liveContentTabs.removeFirstOccurrence(tab);
+            }
+            return;
+        }
+        int count = getSkinnable().getLiveContentNodeBudget() > 0 ? countNodes(content) : 0;
+        liveContentNodeCounts.put(tab, count);
+        liveContentNodeCount += count;
+        if (previousCount == null) {
+            // until the tab is selected, it is the least recently selected one
+            liveContentTabs.addLast(tab);
+        }
+    }
+
+    private void removeLiveContent(Tab tab) {
+        var previousCount = liveContentNodeCounts.remove(tab);
+        if (previousCount != null) {
+            liveContentNodeCount -= previousCount;
+            liveContentTabs.removeFirstOccurrence(tab);
+        }
+    }
+
+    /**
+     * Counts the nodes of all the live contents again, when the node budget is changed.
+     */
+    private void updateLiveContentNodeCounts() {
+        boolean counted = getSkinnable().getLiveContentNodeBudget() > 0;
+        liveContentNodeCount = 0;
+        for (var entry : liveContentNodeCounts.entrySet()) {
+            int count = counted ? countNodes(entry.getKey().getContent()) : 0;
+            entry.setValue(count);
+            liveContentNodeCount += count;
+        }
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Attaches the contents that must be in the scene graph according to the content attachment policy and detaches
+     * all others.
+     */
+    private void updateContentAttachment() {
+        var policy = getContentAttachmentPolicy();
+        if (policy == ContentAttachmentPolicy.EAGER) {
+            if (attachedContentRegions.size() != tabContentRegions.size()) {
+                for (TabContentRegion contentRegion : tabContentRegions) {
+                    attachTabContent(contentRegion);
+                }
+            }
+            return;
+        }
+        int limit = policy == ContentAttachmentPolicy.SELECTED_ONLY ? 1
+                : Math.max(1, getSkinnable().getAttachedContentLimit());
+        Set<TabContentRegion> regions = Collections.newSetFromMap(new IdentityHashMap<>());
+        int count = 0;
+        for (Tab tab : recentlySelectedTabs) {
+            if (count == limit) {
                 break;
             }
+            // a tab without a content region yet (for example, selected during a batch update) keeps its place,
+            // so the contents of the tabs selected before it are not attached instead
+            count++;
+            var contentRegion = tabContentRegionsByTab.get(tab);
+            if (contentRegion != null) {
+                regions.add(contentRegion);
+            }
+        }
+        for (TabContentRegion contentRegion : new ArrayList<>(attachedContentRegions)) {
+            if (!regions.contains(contentRegion)) {
+                detachTabContent(contentRegion);
+            }
+        }
+        for (TabContentRegion contentRegion : regions) {
+            attachTabContent(contentRegion);
+        }
+    }
+
+    private void removeTabContent(Tab tab) {
+        TabContentRegion contentRegion = tabContentRegionsByTab.get(tab);
+        if (contentRegion != null) {
+            removeTabContent(contentRegion);
         }
     }
 
     private void removeTabContent(TabContentRegion contentRegion) {
+        tabContentRegionsByTab.remove(contentRegion.getTab());
+        recentlySelectedTabs.removeFirstOccurrence(contentRegion.getTab());
+        removeLiveContent(contentRegion.getTab());
+        hibernatedTabs.remove(contentRegion.getTab());
         contentRegion.dispose();
-        tabContentRegions.remove(contentRegion);
-        getChildren().remove(contentRegion);
+        // the order of the content regions doesn't matter, so the last region takes the place of the removed one
+        int index = contentRegion.getIndex();
+        var lastRegion = tabContentRegions.remove(tabContentRegions.size() - 1);
+        if (lastRegion != contentRegion) {
+            lastRegion.setIndex(index);
+            tabContentRegions.set(index, lastRegion);
+        }
+        contentRegion.setIndex(-1);
+        detachTabContent(contentRegion);
     }
 
     private void updateTabPosition() {
@@ -737,18 +1318,6 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         getSkinnable().requestLayout();
     }
 
-    private Timeline createTimeline(final TabHeaderSkin tabRegion, final Duration duration, final double endValue, final EventHandler<ActionEvent> func) {
-        Timeline timeline = new Timeline();
-        timeline.setCycleCount(1);
-
-        KeyValue keyValue = new KeyValue(tabRegion.animationTransition, endValue, Interpolator.LINEAR);
-        timeline.getKeyFrames().clear();
-        timeline.getKeyFrames().add(new KeyFrame(duration, keyValue));
-
-        timeline.setOnFinished(func);
-        return timeline;
-    }
-
     private boolean isHorizontal() {
         Side tabPosition = getSkinnable().getSide();
         return Side.TOP.equals(tabPosition) || Side.BOTTOM.equals(tabPosition);
@@ -856,14 +1425,38 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
      **************************************************************************/
     public final class TabHeaderArea extends StackPane {
 
-        private static final double DRAG_SCROLL_EDGE = 10.0;
+        /**
+         * The distance in pixels the pointer must pass the middle of a tab header to change the drop index, so
+         * the jitter of the pointer doesn't make the drop position flicker.
+         */
+        private static final double DROP_INDEX_HYSTERESIS = 4.0;
+
+        /**
+         * The number of headers that are materialized before and after the visible ones in the virtualized mode.
+         */
+        private static final int VIRTUAL_OVERSCAN = 2;
+
+        /**
+         * The width of a tab header that has never been materialized, used until the first header is measured.
+         */
+        private static final double DEFAULT_VIRTUAL_TAB_WIDTH = 100.0;
 
         private Rectangle headerClip;
+
+        /**
+         * The x of the header clip when the headers are not scrolled. The clip is shifted against the translate of
+         * the headers region, so it stays in place while the headers are scrolled.
+         */
+        private double headerClipX;
+
         private StackPane headersRegion;
         private StackPane headerBackground;
         private TabsMenuManager tabsMenuManager;
 
-        private boolean measureClosingTabs = false;
+        private TabsListPopup tabsListPopup;
+
+        private final ObjectProperty<TabsMenuType> tabsMenuType =
+                new SimpleObjectProperty<>(this, "tabsMenuType", TabsMenuType.CONTEXT_MENU);
 
         private final ReadOnlyDoubleWrapper scrollOffset = new ReadOnlyDoubleWrapper(this, "scrollOffset");
 
@@ -891,6 +1484,12 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
         private final BooleanProperty scrollBarEnabled = new SimpleBooleanProperty(this, "scrollBarEnabled", false);
 
+        private final BooleanProperty smoothScrolling = new SimpleBooleanProperty(this, "smoothScrolling", false);
+
+        private final BooleanProperty kineticScrolling = new SimpleBooleanProperty(this, "kineticScrolling", false);
+
+        private final SmoothScroll smoothScroll = new SmoothScroll();
+
         private Node scrollBarThumb;
 
         private boolean scrollingViaThumb;
@@ -915,12 +1514,13 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
         private int dropIndex = -1;
 
+        private final DropGeometry dropGeometry = new DropGeometry();
+
         private final DoubleProperty tabDragScrollStep = new SimpleDoubleProperty(this, "tabDragScrollStep");
 
-        private double currentDragScrollStep;
+        private final DoubleProperty tabDragScrollEdge = new SimpleDoubleProperty(this, "tabDragScrollEdge", 10.0);
 
-        private final Timeline dragScroll =
-                new Timeline(new KeyFrame(Duration.millis(25), e -> scrollTabHeadersBy(currentDragScrollStep)));
+        private final DragScroll dragScroll = new DragScroll();
 
         private final ObjectProperty<Cursor> tabDragCursor = new SimpleObjectProperty(this, "tabDragCursor");
 
@@ -938,32 +1538,119 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
         private Popup dragPopup;
 
-        private TabHeaderArea() {
-            getStyleClass().setAll("tab-header-area");
-            setManaged(false);
-            final TabPanePro tabPane = getSkinnable();
+        /**
+         * The node that follows the pointer during the current drag.
+         */
+        private Node dragContent;
 
-            headerClip = new Rectangle();
+        private final BooleanProperty tabDragSnapshotEnabled =
+                new SimpleBooleanProperty(this, "tabDragSnapshotEnabled", false);
 
-            headersRegion = new StackPane() {
-                @Override protected double computePrefWidth(double height) {
-                    double width = 0.0F;
-                    var index = 0;
-                    var snappedGap = snapSizeX(getTabGap());
-                    for (Node child : getChildren()) {
-                        TabHeaderSkin tabHeaderSkin = (TabHeaderSkin)child;
-                        if (tabHeaderSkin.isVisible() && (measureClosingTabs || ! tabHeaderSkin.isClosing)) {
-                            width += tabHeaderSkin.prefWidth(height);
-                            if (index > 0) {
-                                width += snappedGap;
-                            }
-                        }
-                        index++;
-                    }
-                    return snapSizeX(width) + snappedLeftInset() + snappedRightInset();
+        private final BooleanProperty tabDragOverlayEnabled =
+                new SimpleBooleanProperty(this, "tabDragOverlayEnabled", false);
+
+        private final BooleanProperty virtualized = new SimpleBooleanProperty(this, "virtualized", false);
+
+        private final IntegerProperty tabHeaderPoolSize = new SimpleIntegerProperty(this, "tabHeaderPoolSize", 0);
+
+        /**
+         * The disposed headers that can be rebound to new tabs.
+         */
+        private final ArrayDeque<TabHeaderSkin> tabHeaderPool = new ArrayDeque<>();
+
+        /**
+         * In the virtualized mode it is the logical list of tabs, the headers region contains only the headers of
+         * the visible tabs.
+         */
+        private final List<Tab> virtualTabs = new ArrayList<>();
+
+        private final Map<Tab, TabHeaderSkin> virtualHeaders = new IdentityHashMap<>();
+
+        /**
+         * The headers of the headers region by their tabs. The map is updated on every change of the children of the
+         * headers region, so it is always consistent with them.
+         */
+        private final Map<Tab, TabHeaderSkin> tabHeaders = new IdentityHashMap<>();
+
+        /**
+         * The last measured widths of the tab headers. The widths of the tabs that have never been materialized
+         * are estimated.
+         */
+        private final Map<Tab, Double> virtualTabWidths = new IdentityHashMap<>();
+
+        /**
+         * The index of the header widths. In the virtualized mode it contains all the tabs of the tab pane,
+         * otherwise it contains all the headers of the headers region.
+         */
+        private final TabWidthIndex tabWidthIndex = new TabWidthIndex();
+
+        private boolean tabWidthIndexValid = false;
+
+        /**
+         * The headers that requested layout since the index was updated, so their widths could have changed.
+         */
+        private final Set<TabHeaderSkin> widthDirtyTabHeaders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /**
+         * The headers whose pref size must be compared in the next layout pass of the header area.
+         */
+        private final Set<TabHeaderSkin> prefSizeCheckTabHeaders =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /**
+         * Whether the layout of the header area was requested, not only the pref size check of the headers.
+         */
+        private boolean layoutRequested;
+
+        /**
+         * The size of the header area in the last layout pass. A resized area is laid out even if only the pref
+         * size check of the headers was requested.
+         */
+        private double lastLayoutWidth = -1;
+
+        private double lastLayoutHeight = -1;
+
+        /**
+         * The headers that are being removed with animation. They are excluded from the pref width of the headers
+         * region unless closing tabs are measured.
+         */
+        private final Set<TabHeaderSkin> closingTabHeaders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private double virtualViewportWidth;
+
+        /**
+         * The range of the strip, covered by the materialized headers. While the viewport stays in this range,
+         * scrolling doesn't require a new layout.
+         */
+        private double virtualWindowStart;
+
+        private double virtualWindowEnd;
+
+        /**
+         * The layout snapshot computed in the current layout pass. It is reset when the layout of the header area
+         * is requested.
+         */
+        private HeaderLayoutSnapshot layoutSnapshot;
+
+        private int measurementCount;
+
+        private int layoutMeasurementCount;
+
+        private TabHeaderArea() {
+            getStyleClass().setAll("tab-header-area");
+            setManaged(false);
+            final TabPanePro tabPane = getSkinnable();
+
+            headerClip = new Rectangle();
+
+            headersRegion = new StackPane() {
+                @Override protected double computePrefWidth(double height) {
+                    measurementCount++;
+                    return computeHeadersWidth(false);
                 }
 
                 @Override protected double computePrefHeight(double width) {
+                    measurementCount++;
                     double height = 0.0F;
                     for (Node child : getChildren()) {
                         TabHeaderSkin tabHeaderSkin = (TabHeaderSkin)child;
@@ -973,27 +1660,21 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 }
 
                 @Override protected void layoutChildren() {
-                    double firstAreaWidth = computeRegionWidth(firstArea, -1);
-                    double stickyAreaWidth = computeRegionWidth(stickyArea, -1);
-                    double lastAreaWidth = computeRegionWidth(lastArea, -1);
-
-                    if (tabsFit(firstAreaWidth, stickyAreaWidth, lastAreaWidth)) {
-                        setScrollOffset(0.0, firstAreaWidth, stickyAreaWidth, lastAreaWidth);
-                    } else {
-                        if (scrollOffsetDirty) {
-                            ensureSelectedTabIsVisible(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
-                            scrollOffsetDirty = false;
-                        }
-                        // ensure there's no gap between last visible tab and trailing edge
-                        validateScrollOffset(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
-                    }
+                    // the snapshot is computed by the header area, unless only the headers region is laid out
+                    var snapshot = getLayoutSnapshot();
+                    dropGeometry.invalidate();
 
                     Side tabPosition = getSkinnable().getSide();
-                    double tabBackgroundHeight = snapSizeY(prefHeight(-1));
+                    double tabBackgroundHeight = snapshot.getHeadersPrefHeight();
+                    // the scroll offset is applied as the translate of the headers region
                     double tabX = (tabPosition.equals(Side.LEFT) || tabPosition.equals(Side.BOTTOM)) ?
-                        snapSizeX(getWidth()) - getScrollOffset() : getScrollOffset();
+                        snapSizeX(getWidth()) : 0;
 
-                    updateHeaderClip(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+                    if (isVirtualized() && !phantomTabHeaderAdded) {
+                        layoutVirtualHeaders(tabPosition, tabBackgroundHeight);
+                        updateDropPositionTranslate();
+                        return;
+                    }
                     var index = 0;
                     var snappedGap = snapSizeX(getTabGap());
                     for (Node node : getChildren()) {
@@ -1031,10 +1712,30 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                         }
                         index++;
                     }
+                    updateDropPositionTranslate();
                 }
             };
             headersRegion.getStyleClass().setAll("headers-region");
             headersRegion.setClip(headerClip);
+            headersRegion.getChildren().addListener((ListChangeListener<Node>) c -> {
+                while (c.next()) {
+                    for (Node node : c.getRemoved()) {
+                        var header = (TabHeaderSkin) node;
+                        // a closing header and a new header of the same tab can be children at the same time
+                        tabHeaders.remove(header.getTab(), header);
+                        closingTabHeaders.remove(header);
+                    }
+                    for (Node node : c.getAddedSubList()) {
+                        var header = (TabHeaderSkin) node;
+                        tabHeaders.put(header.getTab(), header);
+                    }
+                }
+                if (!isVirtualized()) {
+                    c.reset();
+                    updateTabHeaderIndexes(c);
+                }
+                dropGeometry.invalidate();
+            });
             setupReordering(headersRegion);
 
             headerBackground = new StackPane();
@@ -1049,7 +1750,10 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             }
 
             tabsMenuManager = new TabsMenuManager();
-            getChildren().addAll(headerBackground, headersRegion, stickyArea, firstArea, lastArea);
+            // the drop position is moved by the translate only, so it doesn't take part in the layout
+            tabDropPosition.setManaged(false);
+            tabDropPosition.setVisible(false);
+            getChildren().addAll(headerBackground, headersRegion, stickyArea, firstArea, lastArea, tabDropPosition);
 
             // support for mouse scroll of header area (for when the tabs exceed
             // the available space).
@@ -1068,14 +1772,19 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                         // Consider vertical scroll events (dy > dx) from mouse wheel and trackpad,
                         // and horizontal scroll events from a trackpad (dx > dy)
                         dx = Math.abs(dy) > Math.abs(dx) ? dy : dx;
-                        scrollTabsBy(dx);
+                        scrollTabsBy(dx, isSmoothScrolling());
                         break;
                     case LEFT:
                     case RIGHT:
-                        scrollTabsBy(dy * 1);
+                        scrollTabsBy(dy * 1, isSmoothScrolling());
                         break;
                 }
             });
+            smoothScrolling.addListener((ov, oldV, newV) -> {
+                if (!newV) {
+                    smoothScroll.stop();
+                }
+            });
 
             this.firstArea.getStyleClass().add("first-area");
             this.firstArea.setViewOrder(-10);
@@ -1092,7 +1801,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             this.scrollBar.valueProperty().addListener((obs, oldVal, newVal) -> {
                 if (scrollBarListenerEnabled) {
                     var delta = newVal.doubleValue() - oldVal.doubleValue();
-                    scrollTabsBy(delta * -1);
+                    scrollTabsBy(delta * -1, false);
                 }
             });
             updateElementsRotation();
@@ -1117,10 +1826,52 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             setOnMouseDragEntered(e -> handleMouseDragEntered(e));
             setOnMouseDragExited(e -> handleMouseDragExited(e));
 
-            dragScroll.setCycleCount(Timeline.INDEFINITE);
             tabGap.addListener((ov, oldV, newV) -> requestLayout());
             tabViewOrderResolver.addListener((ov, oldV, newV) -> updateTabHeaderViewOrder(true));
             tabHeaderFactory.addListener((ov, oldV, newV) -> updateTabHeaders());
+            tabHeaderPoolSize.addListener((ov, oldV, newV) -> {
+                while (tabHeaderPool.size() > Math.max(0, getTabHeaderPoolSize())) {
+                    tabHeaderPool.pop();
+                }
+            });
+            virtualized.addListener((ov, oldV, newV) -> updateVirtualizedMode());
+
+            // the properties of the tab pane that affect all the headers are observed once here and not by every
+            // header, so a change results in one pass over the headers
+            registerChangeListener(tabPane.tabClosingPolicyProperty(),
+                    e -> forEachResizedTabHeader(TabHeaderSkin::requestInnerLayout));
+            registerChangeListener(tabPane.sideProperty(), e -> forEachResizedTabHeader(TabHeaderSkin::updateSide));
+            registerChangeListener(tabPane.rotateGraphicProperty(),
+                    e -> forEachResizedTabHeader(TabHeaderSkin::updateGraphicRotation));
+            registerChangeListener(tabPane.disabledProperty(),
+                    e -> forEachTabHeader(TabHeaderSkin::updateTabDisabledState));
+            registerChangeListener(tabPane.tabMinWidthProperty(),
+                    e -> forEachResizedTabHeader(TabHeaderSkin::requestLayout));
+            registerChangeListener(tabPane.tabMaxWidthProperty(),
+                    e -> forEachResizedTabHeader(TabHeaderSkin::requestLayout));
+            registerChangeListener(tabPane.tabMinHeightProperty(), e -> forEachTabHeader(TabHeaderSkin::requestLayout));
+            registerChangeListener(tabPane.tabMaxHeightProperty(), e -> forEachTabHeader(TabHeaderSkin::requestLayout));
+        }
+
+        /**
+         * Applies the change of a tab pane property to all the headers and requests the layout of the tab pane once.
+         */
+        private void forEachTabHeader(Consumer<TabHeaderSkin> updater) {
+            for (Node child : headersRegion.getChildren()) {
+                updater.accept((TabHeaderSkin) child);
+            }
+            getSkinnable().requestLayout();
+        }
+
+        /**
+         * Applies the change of a tab pane property that affects the widths of all the headers. In the virtualized
+         * mode only the materialized headers can be measured again, so the measured widths of all the tabs are
+         * forgotten and the other tabs are estimated until they are materialized.
+         */
+        private void forEachResizedTabHeader(Consumer<TabHeaderSkin> updater) {
+            virtualTabWidths.clear();
+            invalidateTabWidthIndex();
+            forEachTabHeader(updater);
         }
 
         /**
@@ -1234,6 +1985,70 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             this.scrollBarEnabled.set(enabled);
         }
 
+        /**
+         * Defines whether the tab headers are scrolled smoothly by the mouse wheel and the trackpad.
+         * <p>
+         * When this property is {@code true}, a scroll event only moves the target offset and the headers are moved
+         * towards it by an animation that applies the offset at most once per pulse. So trackpads that send many
+         * events per frame cause a single layout per frame.
+         * <p>
+         * By default, this property is {@code false}.
+         *
+         * @return the property indicating whether smooth scrolling is enabled
+         */
+        public final BooleanProperty smoothScrollingProperty() {
+            return smoothScrolling;
+        }
+
+        /**
+         * Returns the value of {@link #smoothScrollingProperty()}.
+         *
+         * @return {@code true} if smooth scrolling is enabled, {@code false} otherwise
+         */
+        public final boolean isSmoothScrolling() {
+            return smoothScrolling.get();
+        }
+
+        /**
+         * Sets the value of {@link #smoothScrollingProperty()}.
+         *
+         * @param enabled {@code true} to enable smooth scrolling, {@code false} to disable it
+         */
+        public final void setSmoothScrolling(boolean enabled) {
+            this.smoothScrolling.set(enabled);
+        }
+
+        /**
+         * Defines whether smooth scrolling continues with inertia after the scroll events stop. The speed of
+         * the scrolling then decreases gradually.
+         * <p>
+         * This property has effect only when {@link #smoothScrollingProperty()} is {@code true}. By default, this
+         * property is {@code false}.
+         *
+         * @return the property indicating whether kinetic scrolling is enabled
+         */
+        public final BooleanProperty kineticScrollingProperty() {
+            return kineticScrolling;
+        }
+
+        /**
+         * Returns the value of {@link #kineticScrollingProperty()}.
+         *
+         * @return {@code true} if kinetic scrolling is enabled, {@code false} otherwise
+         */
+        public final boolean isKineticScrolling() {
+            return kineticScrolling.get();
+        }
+
+        /**
+         * Sets the value of {@link #kineticScrollingProperty()}.
+         *
+         * @param enabled {@code true} to enable kinetic scrolling, {@code false} to disable it
+         */
+        public final void setKineticScrolling(boolean enabled) {
+            this.kineticScrolling.set(enabled);
+        }
+
         /**
          * Indicates whether the tab header area currently requires a scroll bar due to tab overflow.
          * <p>
@@ -1271,7 +2086,45 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
          * @param anchor the node relative to which the popup menu will be shown, typically a button that opens the menu
          */
         public void showTabsMenu(Node anchor) {
-            tabsMenuManager.showPopupMenu(anchor);
+            if (getTabsMenuType() == TabsMenuType.LIST_VIEW) {
+                if (tabsListPopup == null) {
+                    tabsListPopup = new TabsListPopup();
+                }
+                tabsListPopup.show(anchor);
+            } else {
+                tabsMenuManager.showPopupMenu(anchor);
+            }
+        }
+
+        /**
+         * Defines the type of the popup shown by {@link #showTabsMenu(Node)}.
+         * <p>
+         * By default, a context menu with one item per tab is used. When the tab pane can contain thousands of tabs,
+         * {@link TabsMenuType#LIST_VIEW} should be used: it shows a virtualized list that creates only the visible rows
+         * and allows filtering the tabs by typing a part of their text.
+         *
+         * @return the property that holds the type of the tabs menu
+         */
+        public final ObjectProperty<TabsMenuType> tabsMenuTypeProperty() {
+            return tabsMenuType;
+        }
+
+        /**
+         * Returns the value of {@link #tabsMenuTypeProperty()}.
+         *
+         * @return the type of the tabs menu
+         */
+        public final TabsMenuType getTabsMenuType() {
+            return tabsMenuType.get();
+        }
+
+        /**
+         * Sets the value of {@link #tabsMenuTypeProperty()}.
+         *
+         * @param type the type of the tabs menu
+         */
+        public final void setTabsMenuType(TabsMenuType type) {
+            this.tabsMenuType.set(type);
         }
 
         /**
@@ -1346,7 +2199,18 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
          * @param delta the amount in pixels to scroll the tab headers;
          */
         public void scrollTabHeadersBy(double delta) {
-            scrollTabsBy(delta);
+            scrollTabsBy(delta, false);
+        }
+
+        /**
+         * Scrolls the tab headers by the specified number of pixels, optionally with animation. When the animation
+         * is used, the headers are moved smoothly and the successive calls accumulate the target offset.
+         *
+         * @param delta the amount in pixels to scroll the tab headers
+         * @param animate {@code true} to scroll with animation, {@code false} to scroll immediately
+         */
+        public void scrollTabHeadersBy(double delta, boolean animate) {
+            scrollTabsBy(delta, animate);
         }
 
         /**
@@ -1384,13 +2248,76 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             tabDragContentFactoryProperty().set(factory);
         }
 
+        /**
+         * Defines whether the dragged tab header is rendered once into an image that is shown during the drag
+         * instead of the content created by {@link #tabDragContentFactoryProperty()}. The image is also used when
+         * the factory is {@code null}.
+         * <p>
+         * By default, this property is {@code false}.
+         *
+         * @return the property indicating whether the snapshot of the tab header is shown during the drag
+         */
+        public final BooleanProperty tabDragSnapshotEnabledProperty() {
+            return tabDragSnapshotEnabled;
+        }
+
+        /**
+         * Returns the value of {@link #tabDragSnapshotEnabledProperty()}.
+         *
+         * @return {@code true} if the snapshot is shown during the drag, {@code false} otherwise
+         */
+        public final boolean isTabDragSnapshotEnabled() {
+            return tabDragSnapshotEnabled.get();
+        }
+
+        /**
+         * Sets the value of {@link #tabDragSnapshotEnabledProperty()}.
+         *
+         * @param enabled {@code true} to show the snapshot during the drag, {@code false} to use the factory
+         */
+        public final void setTabDragSnapshotEnabled(boolean enabled) {
+            tabDragSnapshotEnabled.set(enabled);
+        }
+
+        /**
+         * Defines whether the drag content is shown in the scene of the tab pane while the pointer is over the tab
+         * pane from which the tab is dragged. In this case, the content is moved as a node of the scene, and the drag
+         * popup window is used only when the pointer leaves the tab pane.
+         * <p>
+         * By default, this property is {@code false}.
+         *
+         * @return the property indicating whether the drag content is shown in the scene
+         */
+        public final BooleanProperty tabDragOverlayEnabledProperty() {
+            return tabDragOverlayEnabled;
+        }
+
+        /**
+         * Returns the value of {@link #tabDragOverlayEnabledProperty()}.
+         *
+         * @return {@code true} if the drag content is shown in the scene, {@code false} otherwise
+         */
+        public final boolean isTabDragOverlayEnabled() {
+            return tabDragOverlayEnabled.get();
+        }
+
+        /**
+         * Sets the value of {@link #tabDragOverlayEnabledProperty()}.
+         *
+         * @param enabled {@code true} to show the drag content in the scene, {@code false} to always use the popup
+         */
+        public final void setTabDragOverlayEnabled(boolean enabled) {
+            tabDragOverlayEnabled.set(enabled);
+        }
+
         /**
          * Defines the scroll step, in pixels, used when automatically scrolling the tab headers
          * during drag-and-drop operations.
          * <p>
          * When a tab is dragged near the edges of the headers region, auto-scrolling may be triggered
-         * to reveal hidden tabs. This property controls how far the headers scroll per update while
-         * the drag operation is in progress.
+         * to reveal hidden tabs. This property defines the base distance the headers scroll every 25 milliseconds
+         * while the drag operation is in progress. The actual speed grows with the depth of the pointer in
+         * the edge zone (see {@link #tabDragScrollEdgeProperty()}) and with the time the pointer stays there.
          * <p>
          * Larger values result in faster scrolling, while smaller values allow for more precise control.
          * The value must be non-negative. A value of {@code 0} disables auto-scrolling.
@@ -1419,6 +2346,36 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             tabDragScrollStepProperty().set(value);
         }
 
+        /**
+         * Defines the size, in pixels, of the zone at the edges of the visible headers in which a dragged tab
+         * scrolls the tab headers. The deeper the pointer is in the zone, the faster the headers are scrolled.
+         * <p>
+         * By default, the size is 10 pixels.
+         *
+         * @return the property representing the size of the edge zone in pixels
+         */
+        public final DoubleProperty tabDragScrollEdgeProperty() {
+            return tabDragScrollEdge;
+        }
+
+        /**
+         * Returns the value of {@link #tabDragScrollEdgeProperty()}.
+         *
+         * @return the size of the edge zone in pixels
+         */
+        public final double getTabDragScrollEdge() {
+            return tabDragScrollEdgeProperty().get();
+        }
+
+        /**
+         * Sets the value of {@link #tabDragScrollEdgeProperty()}.
+         *
+         * @param value the size of the edge zone in pixels
+         */
+        public final void setTabDragScrollEdge(double value) {
+            tabDragScrollEdgeProperty().set(value);
+        }
+
         /**
          * Defines the cursor to be displayed during tab drag-and-drop operations.
          * <p>
@@ -1564,6 +2521,139 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             tabViewOrderResolverProperty().set(resolver);
         }
 
+        /**
+         * Defines whether the tab headers are virtualized.
+         * <p>
+         * In the virtualized mode only the headers of the tabs that intersect the headers clip region (plus a few
+         * headers before and after them) exist as nodes. The headers of other tabs are created when they are scrolled
+         * into view and are disposed when they are scrolled out of it, so memory and CSS/layout cost depend on the
+         * size of the viewport rather than on the number of tabs. The widths of the tabs that have never been shown
+         * are estimated using the average width of the measured headers.
+         * <p>
+         * The scroll offset, the headers region width and the drop index are still computed against the logical list
+         * of tabs. Open and close animations are not played in this mode.
+         * <p>
+         * By default, this property is {@code false}.
+         *
+         * @return the property indicating whether the tab headers are virtualized
+         */
+        public final BooleanProperty virtualizedProperty() {
+            return virtualized;
+        }
+
+        /**
+         * Returns the value of {@link #virtualizedProperty()}.
+         *
+         * @return {@code true} if the tab headers are virtualized, {@code false} otherwise
+         */
+        public final boolean isVirtualized() {
+            return virtualized.get();
+        }
+
+        /**
+         * Sets the value of {@link #virtualizedProperty()}.
+         *
+         * @param virtualized {@code true} to virtualize the tab headers, {@code false} to create a header for
+         *                    every tab
+         */
+        public final void setVirtualized(boolean virtualized) {
+            this.virtualized.set(virtualized);
+        }
+
+        /**
+         * Defines the maximum number of disposed tab headers that are kept to be reused for new tabs.
+         * <p>
+         * Creating a tab header is relatively expensive, so when tabs are opened and closed frequently (for example,
+         * preview tabs that are replaced on every click) or when headers are materialized and released during
+         * scrolling in the {@link #virtualizedProperty() virtualized} mode, the released headers can be returned
+         * to a pool and later rebound to other tabs. Only the headers that support rebinding are pooled, see
+         * {@link TabHeaderSkin#isRebindable()}.
+         * <p>
+         * By default, this property is {@code 0}, so the headers are not pooled.
+         *
+         * @return the property holding the maximum size of the tab header pool
+         */
+        public final IntegerProperty tabHeaderPoolSizeProperty() {
+            return tabHeaderPoolSize;
+        }
+
+        /**
+         * Returns the value of {@link #tabHeaderPoolSizeProperty()}.
+         *
+         * @return the maximum size of the tab header pool
+         */
+        public final int getTabHeaderPoolSize() {
+            return tabHeaderPoolSize.get();
+        }
+
+        /**
+         * Sets the value of {@link #tabHeaderPoolSizeProperty()}.
+         *
+         * @param size the maximum size of the tab header pool, zero to disable pooling
+         */
+        public final void setTabHeaderPoolSize(int size) {
+            this.tabHeaderPoolSize.set(size);
+        }
+
+        /**
+         * Returns the number of measurements (computations of the sizes of the areas, of the headers region and
+         * of the tab headers) that were performed during the previous layout pass. This method is intended for
+         * debugging, the returned value should not depend on the number of tabs.
+         *
+         * @return the number of measurements
+         */
+        public int getLayoutMeasurementCount() {
+            return layoutMeasurementCount;
+        }
+
+        SmoothScroll getSmoothScroll() {
+            return smoothScroll;
+        }
+
+        DropGeometry getDropGeometry() {
+            return dropGeometry;
+        }
+
+        DragScroll getDragScroll() {
+            return dragScroll;
+        }
+
+        @Override
+        public void requestLayout() {
+            layoutSnapshot = null;
+            layoutRequested = true;
+            super.requestLayout();
+        }
+
+        /**
+         * Schedules the pref size check of the header that requested layout. Only the header area is marked as
+         * needing layout, so its ancestors are not laid out if the size of the header remains the same.
+         */
+        private void requestPrefSizeCheck(TabHeaderSkin header) {
+            prefSizeCheckTabHeaders.add(header);
+            setNeedsLayout(true);
+        }
+
+        /**
+         * Compares the pref sizes of the headers that requested layout.
+         *
+         * @return true if the pref size of any header changed, otherwise false.
+         */
+        private boolean checkTabHeaderPrefSizes() {
+            if (prefSizeCheckTabHeaders.isEmpty()) {
+                return false;
+            }
+            var headers = new ArrayList<>(prefSizeCheckTabHeaders);
+            prefSizeCheckTabHeaders.clear();
+            var changed = false;
+            for (var header : headers) {
+                if (header.updatePrefSize()) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
         /**
          * Performs cleanup operations after a drag operation completion. This method is manually invoked only when the
          * program intercepts MOUSE_DRAG_RELEASED event and the TabPane does not receive this event naturally.
@@ -1574,6 +2664,12 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         public void cleanupAfterDrop() {
             if (this.dragPopup != null) {
                 this.dragPopup.hide();
+                // the popup is reused, so it must not keep the content
+                this.dragPopup.getContent().clear();
+            }
+            if (this.dragContent != null) {
+                TabPaneProSkin.this.getChildren().remove(this.dragContent);
+                this.dragContent = null;
             }
             if (this.sceneOnDrag != null && this.sceneCursorOnDrag != null) {
                 this.sceneOnDrag.setCursor(this.sceneCursorOnDrag);
@@ -1622,31 +2718,152 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             }
         }
 
-        private void scrollTabsBy(double delta) {
+        private void scrollTabsBy(double delta, boolean animate) {
+            if (animate) {
+                smoothScroll.scrollBy(delta);
+                return;
+            }
+            smoothScroll.stop();
+            // it is important to snap the delta
+            delta = getSkinnable().getSide().isHorizontal() ? snapSizeX(delta) : snapSizeY(delta);
+            setScrollOffset(scrollOffset.get() + delta);
+        }
+
+        private double snapScrollOffset(double offset) {
+            return getSkinnable().getSide().isHorizontal() ? snapPositionX(offset) : snapPositionY(offset);
+        }
+
+        private void setScrollOffset(double newScrollOffset) {
             var firstAreaWidth = snapSizeX(firstArea.getWidth());
             var stickyAreaWidth = snapSizeX(stickyArea.getWidth());
             var lastAreaWidth = snapSizeX(lastArea.getWidth());
-            // it is important to snap the delta
-            delta = getSkinnable().getSide().isHorizontal() ? snapSizeX(delta) : snapSizeY(delta);
-            setScrollOffset(scrollOffset.get() + delta, firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+            setScrollOffset(newScrollOffset, firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+        }
+
+        /**
+         * Scrolls the tab headers towards the target offset with an animation timer, so the offset is applied
+         * at most once per pulse regardless of the number of scroll events.
+         */
+        final class SmoothScroll extends AnimationTimer {
+
+            /**
+             * The time in seconds in which the remaining distance decreases by e times.
+             */
+            private static final double TIME_CONSTANT = 0.05;
+
+            /**
+             * The time in seconds in which the kinetic velocity decreases by e times.
+             */
+            private static final double FRICTION_TIME_CONSTANT = 0.3;
+
+            /**
+             * The time in nanoseconds after the last scroll event when the inertia starts.
+             */
+            private static final long INERTIA_DELAY = 50_000_000;
+
+            private static final double MIN_VELOCITY = 20;
+
+            private double targetOffset;
+
+            /**
+             * The velocity of the scrolling in pixels per second.
+             */
+            private double velocity;
+
+            private long lastScrollTime = -1;
+
+            private long lastPulseTime = -1;
+
+            private boolean running;
+
+            void scrollBy(double delta) {
+                long time = System.nanoTime();
+                if (!running) {
+                    targetOffset = getScrollOffset();
+                    velocity = 0;
+                } else if (lastScrollTime >= 0) {
+                    double seconds = Math.max(1.0 / 60, (time - lastScrollTime) / 1e9);
+                    velocity = velocity * 0.5 + (delta / seconds) * 0.5;
+                }
+                lastScrollTime = time;
+                targetOffset = snapScrollOffset(getValidScrollOffset(targetOffset + delta));
+                if (!running) {
+                    running = true;
+                    lastPulseTime = -1;
+                    start();
+                }
+            }
+
+            @Override
+            public void handle(long now) {
+                double seconds = lastPulseTime < 0 ? 1.0 / 60 : Math.min(0.1, (now - lastPulseTime) / 1e9);
+                lastPulseTime = now;
+                // the scroll range could shrink since the last pulse (tabs were closed, the pane was resized)
+                targetOffset = snapScrollOffset(getValidScrollOffset(targetOffset));
+                if (isKineticScrolling() && now - lastScrollTime > INERTIA_DELAY
+                        && Math.abs(velocity) > MIN_VELOCITY) {
+                    double newTargetOffset = getValidScrollOffset(targetOffset + velocity * seconds);
+                    if (newTargetOffset != targetOffset + velocity * seconds) {
+                        // the edge is reached
+                        velocity = 0;
+                    } else {
+                        velocity *= Math.exp(-seconds / FRICTION_TIME_CONSTANT);
+                    }
+                    targetOffset = snapScrollOffset(newTargetOffset);
+                } else if (!isKineticScrolling() || Math.abs(velocity) <= MIN_VELOCITY) {
+                    velocity = 0;
+                }
+                double offset = getScrollOffset();
+                double newOffset = snapScrollOffset(offset
+                        + (targetOffset - offset) * (1 - Math.exp(-seconds / TIME_CONSTANT)));
+                if (newOffset == offset && targetOffset != offset) {
+                    // the step is less than a pixel
+                    newOffset = snapScrollOffset(offset + Math.signum(targetOffset - offset));
+                }
+                if (Math.abs(targetOffset - newOffset) < 1 && velocity == 0) {
+                    newOffset = targetOffset;
+                }
+                setScrollOffset(newOffset);
+                if (velocity == 0 && (Math.abs(getScrollOffset() - targetOffset) < 0.001
+                        || Math.abs(getScrollOffset() - offset) < 0.001)) {
+                    // the target is reached or the offset can't be moved
+                    stop();
+                }
+            }
+
+            @Override
+            public void stop() {
+                super.stop();
+                running = false;
+                velocity = 0;
+                lastScrollTime = -1;
+            }
+
+            boolean isRunning() {
+                return running;
+            }
+
+            double getTargetOffset() {
+                return targetOffset;
+            }
         }
 
-        private void updateHeaderClip(double firstAreaWidth, double stickyAreaWidth, double lastAreaWidth) {
+        /**
+         * Computes the x, the width and the height of the header clip. The y of the clip is always zero.
+         */
+        private double[] computeHeaderClip(double firstAreaWidth, double stickyAreaWidth, double lastAreaWidth,
+                double headersPrefHeight) {
             Side tabPosition = getSkinnable().getSide();
 
             double x = 0;
-            double y = 0;
             double clipWidth = 0;
             double clipHeight = 0;
             double maxWidth = 0;
             double shadowRadius = 0;
             double clipOffset = firstTabIndent() + lastTabIndent();
 
-            measureClosingTabs = true;
-            double headersPrefWidth = snapSizeX(headersRegion.prefWidth(-1));
-            measureClosingTabs = false;
-
-            double headersPrefHeight = snapSizeY(headersRegion.prefHeight(-1));
+            // the closing tabs are measured
+            double headersPrefWidth = snapSizeX(computeHeadersWidth(true));
 
             if (headersRegion.getEffect() instanceof DropShadow) {
                 DropShadow shadow = (DropShadow)headersRegion.getEffect();
@@ -1668,11 +2885,27 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 clipWidth = (headersPrefWidth < maxWidth ? headersPrefWidth : maxWidth) + shadowRadius;
                 clipHeight = headersPrefHeight;
             }
+            return new double[] {x, clipWidth, clipHeight};
+        }
+
+        private void updateHeaderClip(HeaderLayoutSnapshot snapshot) {
+            headerClipX = snapshot.getClipX();
+            headerClip.setY(0);
+            headerClip.setWidth(snapshot.getClipWidth());
+            headerClip.setHeight(snapshot.getClipHeight());
+            updateHeadersTranslate();
+        }
 
-            headerClip.setX(x);
-            headerClip.setY(y);
-            headerClip.setWidth(clipWidth);
-            headerClip.setHeight(clipHeight);
+        /**
+         * Applies the scroll offset as the translate of the headers region and shifts the header clip back, so
+         * scrolling doesn't relocate the headers.
+         */
+        private void updateHeadersTranslate() {
+            Side tabPosition = getSkinnable().getSide();
+            double translateX = (tabPosition.equals(Side.LEFT) || tabPosition.equals(Side.BOTTOM)) ?
+                    -getScrollOffset() : getScrollOffset();
+            headersRegion.setTranslateX(translateX);
+            headerClip.setX(headerClipX - translateX);
         }
 
         private void addTab(Tab tab, int addToIndex) {
@@ -1683,28 +2916,60 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
         private void removeTab(Tab tab) {
             TabHeaderSkin tabHeaderSkin = getTabHeaderSkin(tab);
-            if (tabHeaderSkin != null) {
-                headersRegion.getChildren().remove(tabHeaderSkin);
+            int index = tabHeaderSkin == null ? -1 : indexOfTabHeader(tabHeaderSkin);
+            if (index >= 0) {
+                headersRegion.getChildren().remove(index);
             }
             invalidateScrollOffset();
         }
 
         private void moveTab(int moveToIndex, TabHeaderSkin tabHeaderSkin) {
-            if (moveToIndex != headersRegion.getChildren().indexOf(tabHeaderSkin)) {
-                headersRegion.getChildren().remove(tabHeaderSkin);
+            int index = indexOfTabHeader(tabHeaderSkin);
+            if (moveToIndex != index) {
+                headersRegion.getChildren().remove(index);
                 headersRegion.getChildren().add(moveToIndex, tabHeaderSkin);
             }
             invalidateScrollOffset();
         }
 
-        private TabHeaderSkin getTabHeaderSkin(Tab tab) {
-            for (Node child: headersRegion.getChildren()) {
-                TabHeaderSkin tabHeaderSkin = (TabHeaderSkin)child;
-                if (tabHeaderSkin.getTab().equals(tab)) {
-                    return tabHeaderSkin;
+        /**
+         * Returns the index of the header in the headers region. In the non-virtual mode the index stored in the
+         * header is the index of the child, so the children are scanned only when it is not valid.
+         */
+        private int indexOfTabHeader(TabHeaderSkin tabHeaderSkin) {
+            var children = headersRegion.getChildren();
+            int index = tabHeaderSkin.getIndex();
+            if (index >= 0 && index < children.size() && children.get(index) == tabHeaderSkin) {
+                return index;
+            }
+            return children.indexOf(tabHeaderSkin);
+        }
+
+        /**
+         * Returns the header of the tab with the given index or {@code null} if the header is not materialized.
+         */
+        private TabHeaderSkin getTabHeaderSkinAt(int index) {
+            if (isVirtualized()) {
+                if (index < 0 || index >= virtualTabs.size()) {
+                    return null;
                 }
+                return virtualHeaders.get(virtualTabs.get(index));
             }
-            return null;
+            if (index < 0 || index >= headersRegion.getChildren().size()) {
+                return null;
+            }
+            return (TabHeaderSkin) headersRegion.getChildren().get(index);
+        }
+
+        TabHeaderSkin getTabHeaderSkin(Tab tab) {
+            return tabHeaders.get(tab);
+        }
+
+        /**
+         * Returns the headers of the headers region, in the virtualized mode only the materialized ones.
+         */
+        List<Node> getTabHeaders() {
+            return Collections.unmodifiableList(headersRegion.getChildren());
         }
 
         private boolean tabsFit(double firstAreaWidth, double stickyAreaWidth, double lastAreaWidth) {
@@ -1724,25 +2989,13 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                     - lastAreaWidth - lastTabIndent();
 
             // and get where the selected tab is in the header area
-            double offset = 0.0;
             double selectedTabOffset = 0.0;
             double selectedTabWidth = 0.0;
-            int index = 0;
-            var snappedGap = snapSizeX(getTabGap());
-            for (Node node : headersRegion.getChildren()) {
-                TabHeaderSkin tabHeader = (TabHeaderSkin)node;
-
-                double tabHeaderPrefWidth = snapSizeX(tabHeader.prefWidth(-1));
-                if (index > 0) {
-                    offset += snappedGap;
-                }
-
-                if (selectedTab != null && selectedTab.equals(tabHeader.getTab())) {
-                    selectedTabOffset = offset;
-                    selectedTabWidth = tabHeaderPrefWidth;
-                }
-                offset += tabHeaderPrefWidth;
-                index++;
+            var widthIndex = getTabWidthIndex();
+            int selectedIndex = findTabWidthIndex(selectedTab);
+            if (selectedIndex != -1) {
+                selectedTabOffset = widthIndex.getOffset(selectedIndex);
+                selectedTabWidth = widthIndex.getWidth(selectedIndex);
             }
 
             final double scrollOffset = getScrollOffset();
@@ -1752,8 +3005,10 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             final double visibleAreaEndX = visibleWidth;
 
             if (selectedTabStartX < -scrollOffset) {
+                smoothScroll.stop();
                 setScrollOffset(-selectedTabStartX, firstAreaWidth, stickyAreaWidth, lastAreaWidth);
             } else if (selectedTabEndX > (visibleAreaEndX - scrollOffset)) {
+                smoothScroll.stop();
                 setScrollOffset(visibleAreaEndX - selectedTabEndX, firstAreaWidth, stickyAreaWidth, lastAreaWidth);
             }
         }
@@ -1766,30 +3021,69 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             scrollOffsetDirty = true;
         }
 
+        /**
+         * Updates the scroll offset and returns whether all tabs fit.
+         */
+        private boolean updateScrollOffset(double firstAreaWidth, double stickyAreaWidth, double lastAreaWidth) {
+            var tabsFit = tabsFit(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+            if (tabsFit) {
+                setScrollOffset(0.0, firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+            } else {
+                if (scrollOffsetDirty) {
+                    ensureSelectedTabIsVisible(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+                    scrollOffsetDirty = false;
+                }
+                // ensure there's no gap between last visible tab and trailing edge
+                validateScrollOffset(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+            }
+            return tabsFit;
+        }
+
         private void validateScrollOffset(double firstAreaWidth, double stickyAreaWidth, double lastAreaWidth) {
             setScrollOffset(getScrollOffset(), firstAreaWidth, stickyAreaWidth, lastAreaWidth);
         }
 
+        /**
+         * Returns the scroll offset that is nearest to the given one and doesn't detach the headers from the edges
+         * of the header area.
+         */
+        private double getValidScrollOffset(double newScrollOffset) {
+            var firstAreaWidth = snapSizeX(firstArea.getWidth());
+            var stickyAreaWidth = snapSizeX(stickyArea.getWidth());
+            var lastAreaWidth = snapSizeX(lastArea.getWidth());
+            return getValidScrollOffset(newScrollOffset, firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+        }
+
         private void setScrollOffset(double newScrollOffset, double firstAreaWidth, double stickyAreaWidth,
                 double lastAreaWidth) {
+            var actualNewScrollOffset = getValidScrollOffset(newScrollOffset, firstAreaWidth, stickyAreaWidth,
+                    lastAreaWidth);
+            if (Math.abs(actualNewScrollOffset - scrollOffset.get()) > 0.001) {
+                scrollOffset.set(actualNewScrollOffset);
+                updateHeadersTranslate();
+                dropGeometry.invalidateOrigin();
+                if (scrollBar.isVisible()) {
+                    updateScrollBarValue();
+                }
+                updateDropPositionTranslate();
+                if (isVirtualized()) {
+                    double start = -actualNewScrollOffset;
+                    if (start < virtualWindowStart || start + virtualViewportWidth > virtualWindowEnd) {
+                        headersRegion.requestLayout();
+                    }
+                }
+            }
+        }
+
+        private double getValidScrollOffset(double newScrollOffset, double firstAreaWidth, double stickyAreaWidth,
+                double lastAreaWidth) {
             // work out the visible width of the tab header
             double tabPaneWidth = snapSizeX(isHorizontal() ? getSkinnable().getWidth() : getSkinnable().getHeight());
             double visibleWidth = tabPaneWidth - firstTabIndent() - firstAreaWidth - stickyAreaWidth
                     - lastAreaWidth - lastTabIndent();
 
-            // measure the width of all tabs
-            double offset = 0.0;
-            int index = 0;
-            var snappedGap = snapSizeX(getTabGap());
-            for (Node node : headersRegion.getChildren()) {
-                TabHeaderSkin tabHeader = (TabHeaderSkin)node;
-                double tabHeaderPrefWidth = snapSizeX(tabHeader.prefWidth(-1));
-                offset += tabHeaderPrefWidth;
-                if (index > 0) {
-                    offset += snappedGap;
-                }
-                index++;
-            }
+            // the width of all tabs
+            double offset = getTabWidthIndex().getTotalWidth();
 
             double actualNewScrollOffset;
 
@@ -1806,11 +3100,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             } else {
                 actualNewScrollOffset = newScrollOffset;
             }
-
-            if (Math.abs(actualNewScrollOffset - scrollOffset.get()) > 0.001) {
-                scrollOffset.set(actualNewScrollOffset);
-                headersRegion.requestLayout();
-            }
+            return actualNewScrollOffset;
         }
 
         private double firstTabIndent() {
@@ -1871,6 +3161,16 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         }
 
         @Override protected void layoutChildren() {
+            if (checkTabHeaderPrefSizes()) {
+                // the height of the header area could have changed too
+                getSkinnable().requestLayout();
+            } else if (!layoutRequested && getWidth() == lastLayoutWidth && getHeight() == lastLayoutHeight) {
+                // only the headers that requested layout are laid out
+                return;
+            }
+            layoutRequested = false;
+            lastLayoutWidth = getWidth();
+            lastLayoutHeight = getHeight();
             final double leftInset = snappedLeftInset();
             final double rightInset = snappedRightInset();
             final double topInset = snappedTopInset();
@@ -1883,48 +3183,40 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                     leftInset + rightInset : topInset + bottomInset);
             double h = headerHeight - (isHorizontal() ?
                     topInset + bottomInset : leftInset + rightInset);
+            layoutMeasurementCount = measurementCount;
+            measurementCount = 0;
+            layoutSnapshot = null;
+            dropGeometry.invalidate();
+            var snapshot = getLayoutSnapshot();
             double tabBackgroundHeight = snapSizeY(prefHeight(-1));
-            double headersPrefWidth = snapSizeX(headersRegion.prefWidth(-1));
-            double headersPrefHeight = snapSizeY(headersRegion.prefHeight(-1));
+            double headersPrefWidth = snapshot.getHeadersPrefWidth();
+            double headersPrefHeight = snapshot.getHeadersPrefHeight();
 
             h = Math.min(h, headersPrefHeight);
 
-            var firstAreaWidth = computeRegionWidth(firstArea, -1);
-            var firstAreaHeight = computeRegionHeight(firstArea, -1);
-            firstAreaHeight = Math.max(firstAreaHeight, h);
+            var firstAreaWidth = snapshot.getFirstAreaWidth();
+            var firstAreaHeight = Math.max(snapshot.getFirstAreaHeight(), h);
             firstArea.resize(firstAreaWidth, firstAreaHeight);
 
-            var stickyAreaWidth = computeRegionWidth(stickyArea, -1);
-            var stickyAreaHeight = computeRegionHeight(stickyArea, -1);
-            stickyAreaHeight = Math.max(stickyAreaHeight, h);
+            var stickyAreaWidth = snapshot.getStickyAreaWidth();
+            var stickyAreaHeight = Math.max(snapshot.getStickyAreaHeight(), h);
             stickyArea.resize(stickyAreaWidth, stickyAreaHeight);
 
-            double dropPositionWidth = 0;
-            double dropPositionWidthHalf = 0;
+            double dropPositionWidth = snapshot.getDropPositionWidth();
             double dropPositionHeight = h;
-            double dropPositionX = 0;
             double dropPositionY = 0;
+            tabDropPosition.resize(dropPositionWidth, dropPositionHeight);
 
-            if (tabDropPosition.getParent() != null) {
-                dropPositionWidth = computeRegionWidth(tabDropPosition, -1);
-                dropPositionWidthHalf = snapSizeX(dropPositionWidth / 2);
-                tabDropPosition.resize(dropPositionWidth, dropPositionHeight);
-            }
-
-            var lastAreaWidth = computeRegionWidth(lastArea, -1);
-            var lastAreaHeight = computeRegionHeight(lastArea, -1);
-            lastAreaHeight = Math.max(lastAreaHeight, h);
+            var lastAreaWidth = snapshot.getLastAreaWidth();
+            var lastAreaHeight = Math.max(snapshot.getLastAreaHeight(), h);
             lastArea.resize(lastAreaWidth, lastAreaHeight);
 
-            double scrollBarWidth = 0.0;
-            double scrollBarHeight = 0.0;
+            double scrollBarWidth = snapshot.getScrollBarWidth();
+            double scrollBarHeight = snapshot.getScrollBarHeight();
             if (scrollBar.getParent() != null) {
-                scrollBarWidth = w - firstAreaWidth - stickyAreaWidth - lastAreaWidth;
-                scrollBarHeight = computeRegionHeight(scrollBar, -1);
                 scrollBar.resize(scrollBarWidth, scrollBarHeight);
             }
 
-            updateHeaderClip(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
             headersRegion.requestLayout();
 
             // POSITION TABS
@@ -1944,7 +3236,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             double stickyX = 0;
             double lastAreaX = 0;
             Side tabPosition = getSkinnable().getSide();
-            var tabsFit = tabsFit(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+            var tabsFit = snapshot.isTabsFit();
             double scrollBarX = 0;
             double scrollBarY = 0;
 
@@ -1977,7 +3269,6 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                         scrollBarY = topInset + firstAreaHeight - scrollBarHeight;
                     }
                 }
-                dropPositionX = computeDropPositionX(regionX, dropPositionWidthHalf);
                 dropPositionY = regionY;
             } else if (tabPosition.equals(Side.RIGHT)) {
                 firstAreaX = topInset;
@@ -2008,7 +3299,6 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                         scrollBarY = headerHeight - leftInset - scrollBarHeight;
                     }
                 }
-                dropPositionX = computeDropPositionX(regionX, dropPositionWidthHalf);
                 dropPositionY = regionY;
             } else if (tabPosition.equals(Side.BOTTOM)) {
                 firstAreaX = headerWidth - firstAreaWidth - leftInset;
@@ -2039,7 +3329,6 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                         scrollBarY = topInset;
                     }
                 }
-                dropPositionX = computeDropPositionX(firstAreaX, dropPositionWidthHalf);
                 dropPositionY = regionY;
             } else if (tabPosition.equals(Side.LEFT)) {
                 firstAreaX = headerWidth - firstAreaWidth - topInset;
@@ -2070,7 +3359,6 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                         scrollBarY = headerHeight - scrollBarHeight - rightInset;
                     }
                 }
-                dropPositionX = computeDropPositionX(firstAreaX, dropPositionWidthHalf);
                 dropPositionY = regionY;
             }
             if (headerBackground.isVisible()) {
@@ -2080,15 +3368,16 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
             positionInArea(firstArea, firstAreaX, allAreaY, firstAreaWidth, firstAreaHeight,
                     /*baseline ignored*/0, HPos.CENTER, VPos.CENTER);
-            if (tabDropPosition.getParent() != null) {
-                positionInArea(tabDropPosition, dropPositionX, dropPositionY, dropPositionWidth, dropPositionHeight,
-                    /*baseline ignored*/0, HPos.LEFT, VPos.CENTER);
-            }
+            positionInArea(tabDropPosition, 0, dropPositionY, dropPositionWidth, dropPositionHeight,
+                /*baseline ignored*/0, HPos.LEFT, VPos.CENTER);
             positionInArea(headersRegion, regionX, regionY, w, h, /*baseline ignored*/0, HPos.LEFT, VPos.CENTER);
             positionInArea(stickyArea, stickyX, allAreaY, stickyAreaWidth, stickyAreaHeight,
                     /*baseline ignored*/0, HPos.CENTER, VPos.CENTER);
             positionInArea(lastArea, lastAreaX, allAreaY, lastAreaWidth, lastAreaHeight,
                     /*baseline ignored*/0, HPos.CENTER, VPos.CENTER);
+            // the geometry could be captured above, before the areas and the headers region were positioned
+            dropGeometry.invalidate();
+            updateDropPositionTranslate();
             if (scrollBar.getParent() != null) {
                 // position in any case - visible or not
                 positionInArea(scrollBar, scrollBarX, scrollBarY, scrollBarWidth,
@@ -2112,37 +3401,34 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             }
         }
 
-        private double computeDropPositionX(double zeroPosition, double dropPositionWidthHalf) {
-            if (tabDropPosition.getParent() == null) {
-                return 0;
+        /**
+         * Moves the drop position to the edge of the drop index. Only the translate of the drop position is changed,
+         * so the header area is not laid out again.
+         */
+        private void updateDropPositionTranslate() {
+            if (dropIndex == -1) {
+                return;
             }
-            double dropPositionX = 0;
-            var side = getSkinnable().getSide();
-            if (dropIndex == 0) {
-                dropPositionX = zeroPosition - dropPositionWidthHalf;
-            } else {
-                TabHeaderSkin leftHeader = (TabHeaderSkin) headersRegion.getChildren().get(dropIndex - 1);
-                var areaBounds = getTabHeaderBounds(leftHeader);
-                var offset = 0.0;
-                if (dropIndex != getSkinnable().getTabs().size()) {
-                    offset = getTabDropPosition().getOffset();
-                }
-                if (side == TOP || side == RIGHT) {
-                    dropPositionX = areaBounds.getMaxX() - dropPositionWidthHalf + offset;
-                } else {
-                    dropPositionX = areaBounds.getMinX() - dropPositionWidthHalf + offset;
-                }
+            var geometry = dropGeometry.validate();
+            double x = geometry.getDropEdge(dropIndex);
+            if (dropIndex != 0 && dropIndex != getSkinnable().getTabs().size()) {
+                x += getTabDropPosition().getOffset();
             }
-            dropPositionX = snapSizeX(dropPositionX);
-            return dropPositionX;
+            tabDropPosition.setTranslateX(snapPositionX(x - snapSizeX(tabDropPosition.getWidth() / 2)));
         }
 
         private void dispose() {
+            smoothScroll.stop();
+            dragScroll.stop();
             for (Node child : headersRegion.getChildren()) {
                 TabHeaderSkin header = (TabHeaderSkin) child;
                 header.dispose();
             }
+            tabHeaderPool.clear();
             tabsMenuManager.dispose();
+            if (tabsListPopup != null) {
+                tabsListPopup.dispose();
+            }
         }
 
         private void updateScrollBarPresence() {
@@ -2193,7 +3479,13 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             scrollBar.setMax(max);
             double visibleAmount = (scrollBarWidth / regionWidth) * max;
             scrollBar.setVisibleAmount(visibleAmount);
-            scrollBar.setValue(Math.min(scrollOffset.get() * -1, max));
+            this.scrollBarListenerEnabled = true;
+            updateScrollBarValue();
+        }
+
+        private void updateScrollBarValue() {
+            this.scrollBarListenerEnabled = false;
+            scrollBar.setValue(Math.min(scrollOffset.get() * -1, scrollBar.getMax()));
             this.scrollBarListenerEnabled = true;
         }
 
@@ -2213,6 +3505,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         }
 
         private double computeRegionWidth(Region region, double height) {
+            measurementCount++;
             var areaWidth = Utils.computeBoundedSize(
                     region.minWidth(height),
                     region.prefWidth(height),
@@ -2222,6 +3515,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         }
 
         private double computeRegionHeight(Region region, double width) {
+            measurementCount++;
             var areaHeight = Utils.computeBoundedSize(
                     region.minHeight(width),
                     region.prefHeight(width),
@@ -2263,12 +3557,14 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             headersRegion.getChildren().add(phantomTabHeader);
             headersRegion.setVisible(false);
             phantomTabHeaderAdded = true;
+            invalidateTabWidthIndex();
         }
 
         private void removePhantomTab() {
             headersRegion.getChildren().clear();
             headersRegion.setVisible(true);
             phantomTabHeaderAdded = false;
+            invalidateTabWidthIndex();
         }
 
         private void updateElementsRotation() {
@@ -2302,11 +3598,17 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 var context = getSkinnable().getDragAndDropContext();
                 context.setTargetTabPane(getSkinnable());
                 updateTabHeadersIndex();
+                dropGeometry.invalidate();
+                dropGeometry.validate();
                 e.consume();
             }
         }
 
         private void updateTabHeadersIndex() {
+            if (isVirtualized()) {
+                // the indexes of the virtualized headers are updated when the headers are materialized
+                return;
+            }
             int index = 0;
             for (Node child : headersRegion.getChildren()) {
                 TabHeaderSkin tabHeaderSkin = (TabHeaderSkin)child;
@@ -2319,26 +3621,24 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 return;
             }
             int currentDropIndex = -1;
-            if (!scrollBarNeeded.get()) {
-                var side = getSkinnable().getSide();
-                if (side == Side.TOP || side == RIGHT) {
-                    double leftX = this.stickyArea.getBoundsInParent().getMaxX();
-                    double rightX = this.lastArea.getBoundsInParent().getMinX();
-                    if (e.getX() >= leftX && e.getX() <= rightX) {
-                        currentDropIndex = getSkinnable().getTabs().size();
-                    }
-                } else {
-                    double leftX = this.stickyArea.getBoundsInParent().getMinX();
-                    double rightX = this.lastArea.getBoundsInParent().getMaxX();
-                    if (e.getX() <= leftX && e.getX() >= rightX) {
-                        currentDropIndex = getSkinnable().getTabs().size();
-                    }
-                }
+            if (!scrollBarNeeded.get() && dropGeometry.validate().isInTrailingSpace(e.getX())) {
+                currentDropIndex = getSkinnable().getTabs().size();
             }
             setDropIndex(currentDropIndex);
             e.consume();
         }
 
+        /**
+         * Resolves the drop index when a tab is dragged over the tab header.
+         */
+        private void handleTabHeaderDragOver(TabHeaderSkin tabHeader, MouseEvent e) {
+            var geometry = dropGeometry.validate();
+            // the scale of the animated headers is ignored
+            double regionX = tabHeader.getLayoutX() + tabHeader.getTranslateX() + e.getX();
+            setDropIndex(geometry.findDropIndex(regionX, dropIndex));
+            checkScrollOnDrag(geometry.toAreaX(regionX));
+        }
+
         private void handleMouseDragExited(MouseDragEvent e) {
             if (isDragInProgress() && acceptsTab) {
                 acceptsTab = false;
@@ -2350,7 +3650,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         }
 
         private void moveTab() {
-            if (tabDropPosition.getParent() == null || getDropIndex() == -1) {
+            if (getDropIndex() == -1) {
                 return;
             }
             var context = getSkinnable().getDragAndDropContext();
@@ -2374,17 +3674,8 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         private void setDropIndex(int dropIndex) {
             if (this.dropIndex != dropIndex) {
                 this.dropIndex = dropIndex;
-                if (dropIndex == -1) {
-                    if (this.tabDropPosition.getParent() != null) {
-                        getChildren().remove(this.tabDropPosition);
-                    }
-                } else {
-                    if (this.tabDropPosition.getParent() == null) {
-                        getChildren().add(this.tabDropPosition);
-                    } else {
-                        requestLayout();
-                    }
-                }
+                tabDropPosition.setVisible(dropIndex != -1);
+                updateDropPositionTranslate();
             }
         }
 
@@ -2392,152 +3683,980 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             return dropIndex;
         }
 
-        private boolean isRightEdgeVisible(TabHeaderSkin tabHeader) {
-            var result = false;
-            var headerBounds = getTabHeaderBounds(tabHeader);
-            var firstBounds = this.firstArea.getBoundsInParent();
-            var stickyBounds = this.stickyArea.getBoundsInParent();
-            switch (getSkinnable().getSide()) {
-                case TOP:
-                case RIGHT:
-                    if (firstBounds.getMaxX() <= headerBounds.getMaxX()
-                            && headerBounds.getMaxX() <=  stickyBounds.getMinX()) {
-                        result = true;
-                    }
-                    break;
-                case BOTTOM:
-                    if (firstBounds.getMinX() >= headerBounds.getMinX()
-                            && headerBounds.getMinX() >= stickyBounds.getMaxX()) {
-                        result = true;
-                    }
-                    break;
-                case LEFT:
-                    if (firstBounds.getMinX() >= headerBounds.getMaxX()
-                            && headerBounds.getMaxX() >=  stickyBounds.getMaxX()) {
-                        result = true;
-                    }
-                    break;
-                default:
-                    throw new AssertionError();
-            }
-            return result;
+        private void stopScrollOnDrag() {
+            this.dragScroll.stop();
         }
 
-        private boolean isLeftEdgeVisible(TabHeaderSkin tabHeader) {
-            var result = false;
-            var headerBounds = getTabHeaderBounds(tabHeader);
-            var firstBounds = this.firstArea.getBoundsInParent();
-            var stickyBounds = this.stickyArea.getBoundsInParent();
-            switch (getSkinnable().getSide()) {
-                case TOP:
-                case RIGHT:
-                    if (firstBounds.getMaxX() <= headerBounds.getMinX()
-                            && headerBounds.getMinX() <= stickyBounds.getMinX()) {
-                        result = true;
-                    }
-                    break;
-                case BOTTOM:
-                    if (firstBounds.getMinX() >= headerBounds.getMaxX()
-                            && headerBounds.getMaxX() >= stickyBounds.getMaxX()) {
-                        result = true;
-                    }
-                    break;
-                case LEFT:
-                    if (firstBounds.getMinX() >= headerBounds.getMinX()
-                            && headerBounds.getMinX() >=  stickyBounds.getMaxX()) {
-                        result = true;
-                    }
-                    break;
-                default:
-                    throw new AssertionError();
+        /**
+         * Starts or stops the scrolling of the headers, depending on the distance from the pointer to the edges of
+         * the visible headers.
+         *
+         * @param x the x of the pointer in the coordinates of the header area
+         */
+        void checkScrollOnDrag(double x) {
+            var edge = getTabDragScrollEdge();
+            if (!scrollBarNeeded.get() || getTabDragScrollStep() <= 0 || edge <= 0) {
+                stopScrollOnDrag();
+                return;
+            }
+            var firstDistance = dropGeometry.getDistanceToFirstEdge(x);
+            var stickyDistance = dropGeometry.getDistanceToStickyEdge(x);
+            if (firstDistance <= edge) {
+                dragScroll.scroll(1, (edge - firstDistance) / edge, x);
+            } else if (stickyDistance <= edge) {
+                dragScroll.scroll(-1, (edge - stickyDistance) / edge, x);
+            } else {
+                stopScrollOnDrag();
             }
-            return result;
         }
 
-        private Bounds getTabHeaderBounds(Node node) {
-            return sceneToLocal(node.localToScene(node.getBoundsInLocal()));
-        }
+        /**
+         * Scrolls the tab headers while a tab is dragged in the edge zone. The speed is proportional to the depth
+         * of the pointer in the zone and doubles every {@link #DOUBLING_TIME} seconds the pointer stays there, so
+         * long strips are scrolled in seconds. The distance is computed from the time between the pulses, so it
+         * doesn't depend on the frame rate.
+         */
+        final class DragScroll extends AnimationTimer {
 
-        private void startScrollOnDrag(double step) {
-            if (this.dragScroll.getStatus() == Animation.Status.STOPPED) {
-                this.currentDragScrollStep = step;
-                this.dragScroll.play();
-            }
-        }
+            /**
+             * The interval in seconds, for which {@link #tabDragScrollStepProperty()} is defined.
+             */
+            private static final double STEP_INTERVAL = 0.025;
 
-        private void stopScrollOnDrag() {
-            if (this.dragScroll.getStatus() == Animation.Status.RUNNING) {
-                this.dragScroll.stop();
-            }
-        }
+            /**
+             * The part of the speed that is used at the outer border of the edge zone.
+             */
+            private static final double MIN_DEPTH_FACTOR = 0.25;
 
-        private void checkScrollOnDrag(MouseEvent e) {
-            if (!scrollBarNeeded.get()) {
-                stopScrollOnDrag();
-                return;
+            private static final double DOUBLING_TIME = 0.75;
+
+            private static final double MAX_TIME_FACTOR = 32;
+
+            private int direction;
+
+            /**
+             * The depth of the pointer in the edge zone from 0 to 1.
+             */
+            private double depth;
+
+            /**
+             * The x of the pointer in the coordinates of the header area.
+             */
+            private double pointerX;
+
+            private long startTime = -1;
+
+            private long lastPulseTime = -1;
+
+            /**
+             * The part of the distance that is less than a pixel and is not scrolled yet, because the delta is
+             * snapped.
+             */
+            private double remainder;
+
+            private boolean running;
+
+            void scroll(int direction, double depth, double pointerX) {
+                if (this.direction != direction) {
+                    startTime = -1;
+                }
+                this.direction = direction;
+                this.depth = Math.min(1, Math.max(0, depth));
+                this.pointerX = pointerX;
+                if (!running) {
+                    running = true;
+                    startTime = -1;
+                    lastPulseTime = -1;
+                    start();
+                }
             }
-            var firstBounds = firstArea.localToScene(firstArea.getBoundsInLocal());
-            var stickyBounds = stickyArea.localToScene(stickyArea.getBoundsInLocal());
-            if (getSkinnable().getSide() == TOP || getSkinnable().getSide() == BOTTOM) {
-                if (firstBounds.getMaxX() + DRAG_SCROLL_EDGE >= e.getSceneX()) {
-                    startScrollOnDrag(tabDragScrollStep.get());
-                } else if (stickyBounds.getMinX() - DRAG_SCROLL_EDGE <= e.getSceneX()) {
-                    startScrollOnDrag(tabDragScrollStep.get() * -1);
-                } else {
-                    stopScrollOnDrag();
+
+            @Override
+            public void handle(long now) {
+                if (startTime < 0) {
+                    startTime = now;
                 }
-            } else {
-                if (firstBounds.getMaxY() + DRAG_SCROLL_EDGE >= e.getSceneY()) {
-                    startScrollOnDrag(tabDragScrollStep.get());
-                } else if (stickyBounds.getMinY() - DRAG_SCROLL_EDGE <= e.getSceneY()) {
-                    startScrollOnDrag(tabDragScrollStep.get() * -1);
-                } else {
-                    stopScrollOnDrag();
+                double seconds = lastPulseTime < 0 ? 1.0 / 60 : Math.min(0.1, (now - lastPulseTime) / 1e9);
+                lastPulseTime = now;
+                double timeFactor = Math.min(MAX_TIME_FACTOR, Math.pow(2, (now - startTime) / 1e9 / DOUBLING_TIME));
+                double depthFactor = MIN_DEPTH_FACTOR + (1 - MIN_DEPTH_FACTOR) * depth;
+                double speed = getTabDragScrollStep() / STEP_INTERVAL * depthFactor * timeFactor;
+                remainder += direction * speed * seconds;
+                double delta = Math.rint(remainder);
+                if (delta == 0) {
+                    return;
+                }
+                remainder -= delta;
+                double oldOffset = getScrollOffset();
+                scrollTabHeadersBy(delta);
+                if (getScrollOffset() != oldOffset && dropIndex != -1) {
+                    // the headers move under the pointer, that can stay still
+                    var geometry = dropGeometry.validate();
+                    setDropIndex(geometry.findDropIndex(geometry.toRegionX(pointerX), dropIndex));
                 }
             }
-        }
 
-        private void updateTabHeaderViewOrder(boolean restoreSameOrder) {
-            var resolver = getTabViewOrderResolver();
-            if (resolver == null && restoreSameOrder) {
-                resolver = (index, tabCount, selected, tab) -> 0.0;
+            @Override
+            public void stop() {
+                super.stop();
+                running = false;
+                direction = 0;
+                remainder = 0;
             }
-            if (resolver != null) {
-                //getSkinnable().getTabs().size() can be > headersRegion.getChildren()
-                var tabCount = headersRegion.getChildren().size();
-                for (var i = 0; i < tabCount; i++) {
-                    boolean selected = i == getSkinnable().getSelectionModel().getSelectedIndex();
-                    TabHeaderSkin tabHeader = (TabHeaderSkin) headersRegion.getChildren().get(i);
-                    var viewOrder = resolver.resolve(tabHeader, i, tabCount, selected);
-                    tabHeader.setViewOrder(viewOrder);
-                }
+
+            boolean isRunning() {
+                return running;
             }
-        }
 
-        private void updateTabHeaders() {
-            List<TabHeaderSkin> newTabHeaders = new ArrayList<>();
-            for (var child : headersRegion.getChildren()) {
-                TabHeaderSkin tabHeader = (TabHeaderSkin) child;
-                TabHeaderSkin newTabHeader = createTabHeader(tabHeader.getTab(), tabHeader.context.isPhantom());
-                newTabHeaders.add(newTabHeader);
+            int getDirection() {
+                return direction;
+            }
+
+            double getDepth() {
+                return depth;
             }
-            headersRegion.getChildren().clear();
-            headersRegion.getChildren().addAll(newTabHeaders);
-            updateTabHeaderViewOrder(false);
-            requestLayout();
         }
 
-        private TabHeaderSkin createTabHeader(Tab tab, boolean phantom) {
-            var context = new TabHeaderContext();
-            context.setTab(tab);
-            context.setPhantom(phantom);
-            context.setSkinnable(getSkinnable());
-            context.setTabHeaderArea(this);
-            context.setBehavior(behavior);
-            context.setResourceBundle(resourceBundle);
+        /**
+         * The geometry of the headers that is used while a tab is dragged over the header area. The edges of
+         * the headers are kept in the strip coordinates, so they don't depend on the scroll offset, and only
+         * the origin of the headers region is updated when the headers are scrolled. The geometry is refreshed
+         * lazily after the layout, so a drag over event doesn't convert any coordinates through the scene.
+         */
+        final class DropGeometry {
 
-            TabHeaderSkin result;
-            if (getTabHeaderFactory() != null) {
+            private boolean valid;
+
+            private boolean originValid;
+
+            /**
+             * The number of the headers in the arrays below.
+             */
+            private int count;
+
+            /**
+             * The start edges of the headers in the strip coordinates, in the ascending order.
+             */
+            private double[] starts = new double[16];
+
+            private double[] ends = new double[16];
+
+            private int[] indexes = new int[16];
+
+            private boolean fromRight;
+
+            private double regionWidth;
+
+            /**
+             * The x of the headers region origin in the coordinates of the header area.
+             */
+            private double regionOrigin;
+
+            /**
+             * The change of x in the header area when x in the headers region increases by one.
+             */
+            private double regionUnit = 1;
+
+            /**
+             * The inner edge of the first area in the coordinates of the header area.
+             */
+            private double firstEdge;
+
+            /**
+             * The inner edge of the sticky area in the coordinates of the header area.
+             */
+            private double stickyEdge;
+
+            private double trailingStart;
+
+            private double trailingEnd;
+
+            /**
+             * The sign of the direction from the first area to the sticky area in the coordinates of the header
+             * area.
+             */
+            private int direction;
+
+            void invalidate() {
+                valid = false;
+                originValid = false;
+            }
+
+            void invalidateOrigin() {
+                originValid = false;
+            }
+
+            DropGeometry validate() {
+                if (!valid) {
+                    update();
+                    valid = true;
+                }
+                if (!originValid) {
+                    updateOrigin();
+                    originValid = true;
+                }
+                return this;
+            }
+
+            /**
+             * Returns the drop index for the x in the coordinates of the headers region or -1 if the edge of
+             * the drop index is not visible. The current drop index is kept until the pointer passes the middle of
+             * the header by {@link #DROP_INDEX_HYSTERESIS}.
+             */
+            int findDropIndex(double regionX, int currentIndex) {
+                if (count == 0) {
+                    return -1;
+                }
+                double x = fromRight ? regionWidth - regionX : regionX;
+                // the last header that starts before x
+                int low = 0;
+                int high = count - 1;
+                int found = 0;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    if (starts[mid] <= x) {
+                        found = mid;
+                        low = mid + 1;
+                    } else {
+                        high = mid - 1;
+                    }
+                }
+                double edge;
+                int index;
+                double middle = (starts[found] + ends[found]) / 2;
+                double hysteresis = Math.min(DROP_INDEX_HYSTERESIS, (ends[found] - starts[found]) / 4);
+                if (currentIndex == indexes[found]) {
+                    middle += hysteresis;
+                } else if (currentIndex == indexes[found] + 1) {
+                    middle -= hysteresis;
+                }
+                if (x < middle) {
+                    edge = starts[found];
+                    index = indexes[found];
+                } else {
+                    edge = ends[found];
+                    index = indexes[found] + 1;
+                }
+                double areaX = toAreaX(fromRight ? regionWidth - edge : edge);
+                if (direction * (areaX - firstEdge) >= 0 && direction * (stickyEdge - areaX) >= 0) {
+                    return index;
+                }
+                return -1;
+            }
+
+            /**
+             * Returns the x of the edge before the drop index in the coordinates of the header area. The edge of
+             * the first area is returned when the header before the drop index is not materialized.
+             */
+            double getDropEdge(int dropIndex) {
+                if (dropIndex > 0) {
+                    int low = 0;
+                    int high = count - 1;
+                    while (low <= high) {
+                        int mid = (low + high) >>> 1;
+                        if (indexes[mid] < dropIndex - 1) {
+                            low = mid + 1;
+                        } else if (indexes[mid] > dropIndex - 1) {
+                            high = mid - 1;
+                        } else {
+                            return toAreaX(fromRight ? regionWidth - ends[mid] : ends[mid]);
+                        }
+                    }
+                }
+                return firstEdge;
+            }
+
+            double toAreaX(double regionX) {
+                return regionOrigin + regionUnit * regionX;
+            }
+
+            double toRegionX(double areaX) {
+                return (areaX - regionOrigin) / regionUnit;
+            }
+
+            double getDistanceToFirstEdge(double x) {
+                return direction * (x - firstEdge);
+            }
+
+            double getDistanceToStickyEdge(double x) {
+                return direction * (stickyEdge - x);
+            }
+
+            boolean isInTrailingSpace(double x) {
+                return x >= trailingStart && x <= trailingEnd;
+            }
+
+            private void update() {
+                var side = getSkinnable().getSide();
+                fromRight = side == Side.LEFT || side == Side.BOTTOM;
+                regionWidth = snapSizeX(headersRegion.getWidth());
+                var children = headersRegion.getChildren();
+                if (starts.length < children.size()) {
+                    int length = Math.max(children.size(), starts.length * 2);
+                    starts = new double[length];
+                    ends = new double[length];
+                    indexes = new int[length];
+                }
+                count = 0;
+                for (Node child : children) {
+                    var header = (TabHeaderSkin) child;
+                    var bounds = header.getBoundsInParent();
+                    double start = fromRight ? regionWidth - bounds.getMaxX() : bounds.getMinX();
+                    if (count > 0 && start < starts[count - 1]) {
+                        // the headers that are being reordered can overlap
+                        start = starts[count - 1];
+                    }
+                    starts[count] = start;
+                    ends[count] = Math.max(start, fromRight ? regionWidth - bounds.getMinX() : bounds.getMaxX());
+                    indexes[count] = header.getIndex();
+                    count++;
+                }
+                var firstBounds = firstArea.getBoundsInParent();
+                var stickyBounds = stickyArea.getBoundsInParent();
+                var lastBounds = lastArea.getBoundsInParent();
+                if (side == Side.TOP || side == Side.RIGHT) {
+                    direction = 1;
+                    firstEdge = firstBounds.getMaxX();
+                    stickyEdge = stickyBounds.getMinX();
+                    trailingStart = stickyBounds.getMaxX();
+                    trailingEnd = lastBounds.getMinX();
+                } else {
+                    direction = -1;
+                    firstEdge = firstBounds.getMinX();
+                    stickyEdge = stickyBounds.getMaxX();
+                    trailingStart = lastBounds.getMaxX();
+                    trailingEnd = stickyBounds.getMinX();
+                }
+            }
+
+            private void updateOrigin() {
+                var origin = headersRegion.localToParent(0, 0);
+                regionOrigin = origin.getX();
+                regionUnit = headersRegion.localToParent(1, 0).getX() - regionOrigin;
+            }
+        }
+
+        private void updateTabHeaderViewOrder(boolean restoreSameOrder) {
+            var resolver = getTabViewOrderResolver();
+            if (resolver == null && restoreSameOrder) {
+                resolver = (index, tabCount, selected, tab) -> 0.0;
+            }
+            if (resolver != null) {
+                var virtual = isVirtualized() && !phantomTabHeaderAdded;
+                //getSkinnable().getTabs().size() can be > headersRegion.getChildren()
+                var headerCount = headersRegion.getChildren().size();
+                var tabCount = virtual ? virtualTabs.size() : headerCount;
+                var selectedIndex = getSkinnable().getSelectionModel().getSelectedIndex();
+                for (var i = 0; i < headerCount; i++) {
+                    TabHeaderSkin tabHeader = (TabHeaderSkin) headersRegion.getChildren().get(i);
+                    var index = virtual ? tabHeader.getIndex() : i;
+                    var viewOrder = resolver.resolve(tabHeader, index, tabCount, index == selectedIndex);
+                    tabHeader.setViewOrder(viewOrder);
+                }
+            }
+        }
+
+        private void updateTabHeaders() {
+            if (isVirtualized() && !phantomTabHeaderAdded) {
+                releaseVirtualHeaders();
+                // the pooled headers were created by the previous factory
+                tabHeaderPool.clear();
+                syncVirtualTabs();
+                return;
+            }
+            tabHeaderPool.clear();
+            List<TabHeaderSkin> newTabHeaders = new ArrayList<>();
+            for (var child : headersRegion.getChildren()) {
+                TabHeaderSkin tabHeader = (TabHeaderSkin) child;
+                TabHeaderSkin newTabHeader = createTabHeader(tabHeader.getTab(), tabHeader.context.isPhantom());
+                newTabHeaders.add(newTabHeader);
+            }
+            headersRegion.getChildren().clear();
+            headersRegion.getChildren().addAll(newTabHeaders);
+            updateTabHeaderViewOrder(false);
+            requestLayout();
+        }
+
+        private void updateVirtualizedMode() {
+            // the headers are going to be recreated, so all the animations must be completed
+            for (Node child : new ArrayList<>(headersRegion.getChildren())) {
+                stopCurrentAnimation(((TabHeaderSkin) child).getTab());
+            }
+            virtualTabs.clear();
+            virtualTabWidths.clear();
+            invalidateTabWidthIndex();
+            if (phantomTabHeaderAdded) {
+                return;
+            }
+            for (Node child : headersRegion.getChildren()) {
+                ((TabHeaderSkin) child).dispose();
+            }
+            headersRegion.getChildren().clear();
+            virtualHeaders.clear();
+            if (isVirtualized()) {
+                syncVirtualTabs();
+            } else {
+                int i = 0;
+                for (Tab tab : getSkinnable().getTabs()) {
+                    addTab(tab, i++);
+                }
+            }
+            updateTabHeaderViewOrder(false);
+            requestLayout();
+        }
+
+        /**
+         * Synchronizes the logical list of tabs with the tab pane. Called after every change of the tabs
+         * in the virtualized mode.
+         */
+        private void syncVirtualTabs() {
+            virtualTabs.clear();
+            virtualTabs.addAll(getSkinnable().getTabs());
+            Set<Tab> tabs = Collections.newSetFromMap(new IdentityHashMap<>(virtualTabs.size()));
+            tabs.addAll(virtualTabs);
+            var widthIterator = virtualTabWidths.entrySet().iterator();
+            while (widthIterator.hasNext()) {
+                var entry = widthIterator.next();
+                if (!tabs.contains(entry.getKey())) {
+                    widthIterator.remove();
+                }
+            }
+            invalidateTabWidthIndex();
+            var headerIterator = virtualHeaders.entrySet().iterator();
+            while (headerIterator.hasNext()) {
+                var entry = headerIterator.next();
+                if (!tabs.contains(entry.getKey())) {
+                    releaseVirtualHeader(entry.getValue());
+                    headerIterator.remove();
+                }
+            }
+            if (phantomTabHeaderAdded) {
+                return;
+            }
+            if (!virtualHeaders.isEmpty()) {
+                for (int i = 0; i < virtualTabs.size(); i++) {
+                    var header = virtualHeaders.get(virtualTabs.get(i));
+                    if (header != null) {
+                        header.setIndex(i);
+                    }
+                }
+            }
+            updateVirtualHeaders();
+        }
+
+        /**
+         * Puts the materialized headers in the order of their indexes or materializes the first headers if there
+         * are none.
+         */
+        private void updateVirtualHeaders() {
+            if (!virtualHeaders.isEmpty()) {
+                List<Node> headers = new ArrayList<>(headersRegion.getChildren());
+                headers.sort((h1, h2) -> Integer.compare(((TabHeaderSkin) h1).getIndex(),
+                        ((TabHeaderSkin) h2).getIndex()));
+                if (!headers.equals(headersRegion.getChildren())) {
+                    headersRegion.getChildren().setAll(headers);
+                }
+            } else if (!virtualTabs.isEmpty()) {
+                // at least one header is required to know the height of the headers region
+                updateVirtualWindow(virtualViewportWidth);
+            }
+            invalidateScrollOffset();
+            headersRegion.requestLayout();
+        }
+
+        /**
+         * Applies the change of the tabs to the logical list of tabs in the virtualized mode. Only the changed
+         * ranges of the list and the width index are updated and only the removed tabs are dropped, so adding or
+         * removing a tab doesn't depend on the number of the tabs (except the shift of the arrays).
+         */
+        private void updateVirtualTabs(ListChangeListener.Change<? extends Tab> c) {
+            if (phantomTabHeaderAdded) {
+                // the drag and drop will be finished by the full synchronization
+                syncVirtualTabs();
+                return;
+            }
+            List<Tab> removedTabs = new ArrayList<>();
+            Set<Tab> addedTabs = Collections.newSetFromMap(new IdentityHashMap<>());
+            while (c.next()) {
+                int from = c.getFrom();
+                int to = c.getTo();
+                if (c.wasPermutated()) {
+                    for (int i = from; i < to; i++) {
+                        virtualTabs.set(i, getSkinnable().getTabs().get(i));
+                    }
+                    for (TabHeaderSkin header : virtualHeaders.values()) {
+                        int index = header.getIndex();
+                        if (index >= from && index < to) {
+                            header.setIndex(c.getPermutation(index));
+                        }
+                    }
+                    if (tabWidthIndexValid) {
+                        tabWidthIndex.remove(from, to);
+                        tabWidthIndex.insert(from, to - from);
+                        setVirtualTabWidths(from, to);
+                    }
+                    continue;
+                }
+                int removedSize = c.getRemovedSize();
+                int addedSize = c.getAddedSize();
+                if (c.wasRemoved()) {
+                    virtualTabs.subList(from, from + removedSize).clear();
+                    removedTabs.addAll(c.getRemoved());
+                    if (tabWidthIndexValid) {
+                        tabWidthIndex.remove(from, from + removedSize);
+                    }
+                }
+                if (c.wasAdded()) {
+                    virtualTabs.addAll(from, c.getAddedSubList());
+                    addedTabs.addAll(c.getAddedSubList());
+                    if (tabWidthIndexValid) {
+                        tabWidthIndex.insert(from, addedSize);
+                        setVirtualTabWidths(from, from + addedSize);
+                    }
+                }
+                int delta = addedSize - removedSize;
+                for (TabHeaderSkin header : virtualHeaders.values()) {
+                    int index = header.getIndex();
+                    if (index >= from + removedSize) {
+                        header.setIndex(index + delta);
+                    } else if (index >= from) {
+                        // the tab of the header was removed, the header is released below
+                        header.setIndex(-1);
+                    }
+                }
+            }
+            for (Tab tab : removedTabs) {
+                if (addedTabs.contains(tab)) {
+                    continue;
+                }
+                virtualTabWidths.remove(tab);
+                var header = virtualHeaders.remove(tab);
+                if (header != null) {
+                    releaseVirtualHeader(header);
+                }
+            }
+            // the headers of the tabs that were removed and added back get the new indexes
+            var headerIterator = virtualHeaders.values().iterator();
+            while (headerIterator.hasNext()) {
+                var header = headerIterator.next();
+                if (header.getIndex() < 0 || header.getIndex() >= virtualTabs.size()
+                        || virtualTabs.get(header.getIndex()) != header.getTab()) {
+                    releaseVirtualHeader(header);
+                    headerIterator.remove();
+                }
+            }
+            updateVirtualHeaders();
+        }
+
+        /**
+         * Sets the known widths of the tabs in the given range of the width index.
+         */
+        private void setVirtualTabWidths(int from, int to) {
+            for (int i = from; i < to; i++) {
+                var width = virtualTabWidths.get(virtualTabs.get(i));
+                if (width != null) {
+                    tabWidthIndex.setWidth(i, width);
+                }
+            }
+        }
+
+        /**
+         * Materializes the headers of the tabs that are visible in the viewport and releases all others.
+         */
+        private boolean updateVirtualWindow(double viewportWidth) {
+            int count = virtualTabs.size();
+            int from = 0;
+            int to = 0;
+            if (count > 0) {
+                var widthIndex = getTabWidthIndex();
+                double start = -getScrollOffset();
+                from = Math.max(0, widthIndex.findIndex(start) - VIRTUAL_OVERSCAN);
+                to = Math.min(count, widthIndex.findIndex(start + Math.max(0, viewportWidth)) + 1 + VIRTUAL_OVERSCAN);
+            }
+            virtualWindowStart = from > 0 ? getTabWidthIndex().getOffset(from) : Double.NEGATIVE_INFINITY;
+            virtualWindowEnd = to < count ? getTabWidthIndex().getOffset(to) : Double.POSITIVE_INFINITY;
+            List<Node> headers = new ArrayList<>(to - from + 1);
+            List<TabHeaderSkin> createdHeaders = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                Tab tab = getVirtualTabAt(i);
+                TabHeaderSkin header = virtualHeaders.get(tab);
+                if (header == null) {
+                    header = createTabHeader(tab, false);
+                    virtualHeaders.put(tab, header);
+                    createdHeaders.add(header);
+                }
+                header.setIndex(i);
+                headers.add(header);
+            }
+            // the header of the dragged tab receives the mouse events, so it must stay in the scene graph
+            if (isDragInProgress()) {
+                pinVirtualHeader(headers, virtualHeaders.get(getSkinnable().getDragAndDropContext().getTab()));
+            }
+            // the headers being reordered are moved by the reordering, so they must stay in the scene graph too
+            if (dragState != null && dragState != DragState.NONE) {
+                pinVirtualHeader(headers, dragTabHeader);
+                pinVirtualHeader(headers, dropAnimHeader);
+            }
+            if (virtualHeaders.size() > headers.size()) {
+                Set<Node> keptHeaders = Collections.newSetFromMap(new IdentityHashMap<>());
+                keptHeaders.addAll(headers);
+                var iterator = virtualHeaders.values().iterator();
+                while (iterator.hasNext()) {
+                    var header = iterator.next();
+                    if (!keptHeaders.contains(header)) {
+                        releaseVirtualHeader(header);
+                        iterator.remove();
+                    }
+                }
+            }
+            if (!headers.equals(headersRegion.getChildren())) {
+                headersRegion.getChildren().setAll(headers);
+                if (dragTabHeader != null) {
+                    dragTabHeaderIndex = headersRegion.getChildren().indexOf(dragTabHeader);
+                }
+            }
+            var widthChanged = false;
+            for (TabHeaderSkin header : createdHeaders) {
+                header.applyCss();
+            }
+            // the widths of the other headers are updated when they request layout
+            for (TabHeaderSkin header : createdHeaders) {
+                widthChanged |= updateTabWidth(header);
+            }
+            if (!createdHeaders.isEmpty()) {
+                updateTabHeaderViewOrder(false);
+            }
+            if (widthChanged) {
+                // clears the cached pref size of the headers region
+                headersRegion.requestLayout();
+            }
+            return widthChanged;
+        }
+
+        /**
+         * Adds the header to the headers of the virtual window, keeping them ordered by the index, unless it is
+         * already there.
+         */
+        private void pinVirtualHeader(List<Node> headers, TabHeaderSkin header) {
+            if (header == null || headers.contains(header)) {
+                return;
+            }
+            int position = 0;
+            while (position < headers.size()
+                    && ((TabHeaderSkin) headers.get(position)).getIndex() < header.getIndex()) {
+                position++;
+            }
+            headers.add(position, header);
+        }
+
+        /**
+         * Returns the tab shown at the given position of the strip. While a header is being reordered, its tab is
+         * shown at the position it was dragged to and the tabs between the two positions are shifted.
+         */
+        private Tab getVirtualTabAt(int position) {
+            if (dragState == null || dragState == DragState.NONE || dragTabIndex == dragTabStartIndex) {
+                return virtualTabs.get(position);
+            }
+            if (position == dragTabIndex) {
+                return virtualTabs.get(dragTabStartIndex);
+            }
+            if (dragTabStartIndex < dragTabIndex && position >= dragTabStartIndex && position < dragTabIndex) {
+                return virtualTabs.get(position + 1);
+            }
+            if (dragTabStartIndex > dragTabIndex && position > dragTabIndex && position <= dragTabStartIndex) {
+                return virtualTabs.get(position - 1);
+            }
+            return virtualTabs.get(position);
+        }
+
+        private void layoutVirtualHeaders(Side tabPosition, double tabBackgroundHeight) {
+            var fromRight = tabPosition.equals(Side.LEFT) || tabPosition.equals(Side.BOTTOM);
+            var regionWidth = snapSizeX(headersRegion.getWidth());
+            var widthIndex = getTabWidthIndex();
+            var snappedGap = widthIndex.getGap();
+            var previousIndex = -1;
+            var offset = 0.0;
+            for (Node node : headersRegion.getChildren()) {
+                TabHeaderSkin tabHeader = (TabHeaderSkin) node;
+                var index = tabHeader.getIndex();
+                if (previousIndex == -1 || index != previousIndex + 1) {
+                    offset = widthIndex.getOffset(index);
+                }
+                double tabHeaderPrefWidth = widthIndex.getWidth(index);
+                double tabHeaderPrefHeight = snapSizeY(tabHeader.prefHeight(-1));
+                tabHeader.resize(tabHeaderPrefWidth, tabHeaderPrefHeight);
+
+                double startY = tabPosition.equals(Side.BOTTOM) ?
+                    0 : tabBackgroundHeight - tabHeaderPrefHeight - headersRegion.snappedBottomInset();
+                double tabX = fromRight ? regionWidth - offset - tabHeaderPrefWidth : offset;
+                if (dragState != DragState.REORDER ||
+                        (tabHeader != dragTabHeader && tabHeader != dropAnimHeader)) {
+                    tabHeader.relocate(tabX, startY);
+                }
+                offset += tabHeaderPrefWidth + snappedGap;
+                previousIndex = index;
+            }
+        }
+
+        private void releaseVirtualHeader(TabHeaderSkin header) {
+            header.dispose();
+            headersRegion.getChildren().remove(header);
+            recycleTabHeader(header);
+        }
+
+        private void releaseVirtualHeaders() {
+            List<TabHeaderSkin> headers = new ArrayList<>(virtualHeaders.values());
+            for (TabHeaderSkin header : headers) {
+                header.dispose();
+            }
+            virtualHeaders.clear();
+            headersRegion.getChildren().clear();
+            for (TabHeaderSkin header : headers) {
+                recycleTabHeader(header);
+            }
+        }
+
+        /**
+         * Returns the layout snapshot of the current layout pass, computing it if necessary.
+         */
+        private HeaderLayoutSnapshot getLayoutSnapshot() {
+            if (layoutSnapshot == null) {
+                layoutSnapshot = computeLayoutSnapshot();
+                updateHeaderClip(layoutSnapshot);
+            }
+            return layoutSnapshot;
+        }
+
+        /**
+         * Computes all the values that both the header area and the headers region need for the layout. Only the
+         * scroll offset and the virtualized window are updated on the way, because the width of the headers
+         * region depends on the materialized headers and the fit state depends on the scroll offset. The values
+         * are applied by the layout methods.
+         */
+        private HeaderLayoutSnapshot computeLayoutSnapshot() {
+            var firstAreaWidth = computeRegionWidth(firstArea, -1);
+            var stickyAreaWidth = computeRegionWidth(stickyArea, -1);
+            var lastAreaWidth = computeRegionWidth(lastArea, -1);
+            var w = snapSizeX(getWidth()) - (isHorizontal() ? snappedLeftInset() + snappedRightInset()
+                    : snappedTopInset() + snappedBottomInset());
+            var tabsFit = updateScrollOffset(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+            if (isVirtualized() && !phantomTabHeaderAdded) {
+                // the visible headers must be materialized before the headers region is measured
+                virtualViewportWidth = w - firstAreaWidth - stickyAreaWidth - lastAreaWidth;
+                if (updateVirtualWindow(virtualViewportWidth)) {
+                    tabsFit = updateScrollOffset(firstAreaWidth, stickyAreaWidth, lastAreaWidth);
+                }
+            }
+            var headersPrefWidth = snapSizeX(headersRegion.prefWidth(-1));
+            var headersPrefHeight = snapSizeY(headersRegion.prefHeight(-1));
+            var clip = computeHeaderClip(firstAreaWidth, stickyAreaWidth, lastAreaWidth, headersPrefHeight);
+            double scrollBarWidth = 0.0;
+            double scrollBarHeight = 0.0;
+            if (scrollBar.getParent() != null) {
+                scrollBarWidth = w - firstAreaWidth - stickyAreaWidth - lastAreaWidth;
+                scrollBarHeight = computeRegionHeight(scrollBar, -1);
+            }
+            return new HeaderLayoutSnapshot(
+                    firstAreaWidth, computeRegionHeight(firstArea, -1),
+                    stickyAreaWidth, computeRegionHeight(stickyArea, -1),
+                    lastAreaWidth, computeRegionHeight(lastArea, -1),
+                    computeRegionWidth(tabDropPosition, -1),
+                    headersPrefWidth, headersPrefHeight, tabsFit,
+                    clip[0], clip[1], clip[2],
+                    scrollBarWidth, scrollBarHeight);
+        }
+
+        /**
+         * Computes the width of the headers region.
+         *
+         * @param includeClosing whether the headers that are being closed are included
+         */
+        private double computeHeadersWidth(boolean includeClosing) {
+            var widthIndex = getTabWidthIndex();
+            double width = widthIndex.getTotalWidth();
+            if (!includeClosing && !(isVirtualized() && !phantomTabHeaderAdded)) {
+                for (TabHeaderSkin tabHeaderSkin : closingTabHeaders) {
+                    var index = tabHeaderSkin.getIndex();
+                    width -= widthIndex.getWidth(index);
+                    if (index > 0) {
+                        width -= widthIndex.getGap();
+                    }
+                }
+            }
+            return snapSizeX(width) + headersRegion.snappedLeftInset() + headersRegion.snappedRightInset();
+        }
+
+        private void invalidateTabWidthIndex() {
+            tabWidthIndexValid = false;
+            widthDirtyTabHeaders.clear();
+        }
+
+        /**
+         * Updates the indexes of the headers after the change of the children in the non-virtual mode. The slots of
+         * the changed headers are inserted and removed in the width index, so only the added headers are measured.
+         * The indexes of the following headers are shifted without measuring them.
+         */
+        private void updateTabHeaderIndexes(ListChangeListener.Change<? extends Node> c) {
+            var children = headersRegion.getChildren();
+            int shiftFrom = children.size();
+            while (c.next()) {
+                int from = c.getFrom();
+                shiftFrom = Math.min(shiftFrom, from);
+                if (!tabWidthIndexValid) {
+                    continue;
+                }
+                if (c.wasPermutated()) {
+                    invalidateTabWidthIndex();
+                    continue;
+                }
+                if (c.wasRemoved()) {
+                    for (Node node : c.getRemoved()) {
+                        widthDirtyTabHeaders.remove((TabHeaderSkin) node);
+                    }
+                    tabWidthIndex.remove(from, from + c.getRemovedSize());
+                }
+                if (c.wasAdded()) {
+                    tabWidthIndex.insert(from, c.getAddedSize());
+                    for (Node node : c.getAddedSubList()) {
+                        widthDirtyTabHeaders.add((TabHeaderSkin) node);
+                    }
+                }
+            }
+            if (tabWidthIndexValid && tabWidthIndex.size() != children.size()) {
+                invalidateTabWidthIndex();
+            }
+            for (int i = shiftFrom; i < children.size(); i++) {
+                ((TabHeaderSkin) children.get(i)).setIndex(i);
+            }
+        }
+
+        /**
+         * Called when the header requests layout, so its width could have changed.
+         */
+        private void invalidateTabWidth(TabHeaderSkin header) {
+            if (tabWidthIndexValid) {
+                widthDirtyTabHeaders.add(header);
+            }
+        }
+
+        /**
+         * Returns the index of the header widths. The index is rebuilt only when the list of the headers changes,
+         * otherwise only the widths of the headers that requested layout are updated.
+         */
+        TabWidthIndex getTabWidthIndex() {
+            tabWidthIndex.setGap(snapSizeX(getTabGap()));
+            if (!tabWidthIndexValid) {
+                widthDirtyTabHeaders.clear();
+                if (isVirtualized() && !phantomTabHeaderAdded) {
+                    tabWidthIndex.reset(virtualTabs.size());
+                    for (int i = 0; i < virtualTabs.size(); i++) {
+                        Double width = virtualTabWidths.get(virtualTabs.get(i));
+                        if (width != null) {
+                            tabWidthIndex.putWidth(i, width);
+                        }
+                    }
+                    tabWidthIndex.buildTrees();
+                } else {
+                    var children = headersRegion.getChildren();
+                    tabWidthIndex.reset(children.size());
+                    for (int i = 0; i < children.size(); i++) {
+                        TabHeaderSkin tabHeader = (TabHeaderSkin) children.get(i);
+                        tabHeader.setIndex(i);
+                        tabWidthIndex.setWidth(i, snapSizeX(tabHeader.prefWidth(-1)));
+                        measurementCount++;
+                    }
+                }
+                tabWidthIndexValid = true;
+            } else if (!widthDirtyTabHeaders.isEmpty()) {
+                List<TabHeaderSkin> tabHeaders = new ArrayList<>(widthDirtyTabHeaders);
+                widthDirtyTabHeaders.clear();
+                for (TabHeaderSkin tabHeader : tabHeaders) {
+                    updateTabWidth(tabHeader);
+                }
+            }
+            var knownCount = tabWidthIndex.getKnownCount();
+            tabWidthIndex.setEstimatedWidth(knownCount == 0 ? DEFAULT_VIRTUAL_TAB_WIDTH
+                    : snapSizeX(tabWidthIndex.getKnownSum() / knownCount));
+            return tabWidthIndex;
+        }
+
+        /**
+         * Measures the header and updates its width in the index.
+         *
+         * @return {@code true} if the width has changed, otherwise {@code false}
+         */
+        private boolean updateTabWidth(TabHeaderSkin header) {
+            if (!tabWidthIndexValid || header.getParent() != headersRegion) {
+                return false;
+            }
+            var index = header.getIndex();
+            if (index < 0 || index >= tabWidthIndex.size()) {
+                return false;
+            }
+            var width = snapSizeX(header.prefWidth(-1));
+            measurementCount++;
+            if (isVirtualized() && !phantomTabHeaderAdded) {
+                if (virtualTabs.get(index) != header.getTab()) {
+                    return false;
+                }
+                virtualTabWidths.put(header.getTab(), width);
+            } else if (headersRegion.getChildren().get(index) != header) {
+                invalidateTabWidthIndex();
+                return true;
+            }
+            return tabWidthIndex.setWidth(index, width);
+        }
+
+        /**
+         * Returns the index of the tab in the index of the header widths or -1.
+         */
+        private int findTabWidthIndex(Tab tab) {
+            if (tab == null) {
+                return -1;
+            }
+            if (isVirtualized() && !phantomTabHeaderAdded) {
+                int index = getSkinnable().getSelectionModel().getSelectedIndex();
+                if (index >= 0 && index < virtualTabs.size() && virtualTabs.get(index) == tab) {
+                    return index;
+                }
+                return virtualTabs.indexOf(tab);
+            }
+            TabHeaderSkin tabHeader = getTabHeaderSkin(tab);
+            return tabHeader == null ? -1 : tabHeader.getIndex();
+        }
+
+        /**
+         * Returns the disposed header that is not a child of the headers region anymore to the pool if the pool
+         * is not full and the header supports rebinding.
+         */
+        private void recycleTabHeader(TabHeaderSkin header) {
+            if (header.context.isPhantom() || header.getParent() != null || !header.isRebindable()
+                    || tabHeaderPool.size() >= getTabHeaderPoolSize()) {
+                return;
+            }
+            animationDriver.cancel(header);
+            header.recycle();
+            widthDirtyTabHeaders.remove(header);
+            prefSizeCheckTabHeaders.remove(header);
+            tabHeaderPool.push(header);
+        }
+
+        private TabHeaderSkin createTabHeader(Tab tab, boolean phantom) {
+            if (!phantom && !tabHeaderPool.isEmpty()) {
+                var header = tabHeaderPool.pop();
+                header.rebind(tab);
+                return header;
+            }
+            var context = new TabHeaderContext();
+            context.setTab(tab);
+            context.setPhantom(phantom);
+            context.setSkinnable(getSkinnable());
+            context.setTabHeaderArea(this);
+            context.setBehavior(behavior);
+            context.setResourceBundle(resourceBundle);
+
+            TabHeaderSkin result;
+            if (getTabHeaderFactory() != null) {
                 result = getTabHeaderFactory().apply(context);
             } else {
                 result = new TabHeaderSkin(context);
@@ -2569,8 +4688,177 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             this.dragPopup = dragPopup;
         }
 
+        /**
+         * Returns the content that is shown during the drag of the tab header.
+         */
+        private Node createTabDragContent(TabHeaderSkin tabHeader) {
+            var factory = getTabDragContentFactory();
+            if (factory != null && !isTabDragSnapshotEnabled()) {
+                return factory.apply(tabHeader);
+            }
+            var view = getSkinnable().getDragAndDropContext().createDragSnapshotView(tabHeader);
+            // the header area is turned upside down
+            view.setRotate(getSkinnable().getSide() == Side.BOTTOM ? 180 : 0);
+            return view;
+        }
+
+        /**
+         * Moves the drag content to the pointer, showing it either in the scene of the tab pane or in the drag popup.
+         */
+        private void moveTabDragContent(MouseEvent e) {
+            if (dragContent == null || dragPopup == null) {
+                return;
+            }
+            if (isTabDragOverlayEnabled()) {
+                var point = getSkinnable().sceneToLocal(e.getSceneX(), e.getSceneY());
+                if (getSkinnable().getLayoutBounds().contains(point)) {
+                    if (dragPopup.isShowing()) {
+                        dragPopup.hide();
+                    }
+                    var children = TabPaneProSkin.this.getChildren();
+                    if (dragContent.getParent() != getSkinnable()) {
+                        dragContent.setManaged(false);
+                        dragContent.setMouseTransparent(true);
+                        children.add(dragContent);
+                        dragContent.applyCss();
+                        dragContent.autosize();
+                    }
+                    dragContent.relocate(point.getX(), point.getY());
+                    return;
+                }
+            }
+            if (dragPopup.getContent().isEmpty()) {
+                // the node is removed from the scene of the tab pane automatically
+                dragPopup.getContent().add(dragContent);
+            }
+            if (dragPopup.isShowing()) {
+                dragPopup.setAnchorX(e.getScreenX());
+                dragPopup.setAnchorY(e.getScreenY());
+            } else {
+                dragPopup.show(getSkinnable().getScene().getWindow(), e.getScreenX(), e.getScreenY());
+            }
+        }
+
     } /* End TabHeaderArea */
 
+    /**
+     * The values computed once per layout pass of the header area: the sizes of the areas, of the drop position,
+     * of the headers region and of the scroll bar, the fit state and the header clip.
+     */
+    private static final class HeaderLayoutSnapshot {
+
+        private final double firstAreaWidth;
+
+        private final double firstAreaHeight;
+
+        private final double stickyAreaWidth;
+
+        private final double stickyAreaHeight;
+
+        private final double lastAreaWidth;
+
+        private final double lastAreaHeight;
+
+        private final double dropPositionWidth;
+
+        private final double headersPrefWidth;
+
+        private final double headersPrefHeight;
+
+        private final boolean tabsFit;
+
+        private final double clipX;
+
+        private final double clipWidth;
+
+        private final double clipHeight;
+
+        private final double scrollBarWidth;
+
+        private final double scrollBarHeight;
+
+        HeaderLayoutSnapshot(double firstAreaWidth, double firstAreaHeight, double stickyAreaWidth,
+                double stickyAreaHeight, double lastAreaWidth, double lastAreaHeight, double dropPositionWidth,
+                double headersPrefWidth, double headersPrefHeight, boolean tabsFit, double clipX, double clipWidth,
+                double clipHeight, double scrollBarWidth, double scrollBarHeight) {
+            this.firstAreaWidth = firstAreaWidth;
+            this.firstAreaHeight = firstAreaHeight;
+            this.stickyAreaWidth = stickyAreaWidth;
+            this.stickyAreaHeight = stickyAreaHeight;
+            this.lastAreaWidth = lastAreaWidth;
+            this.lastAreaHeight = lastAreaHeight;
+            this.dropPositionWidth = dropPositionWidth;
+            this.headersPrefWidth = headersPrefWidth;
+            this.headersPrefHeight = headersPrefHeight;
+            this.tabsFit = tabsFit;
+            this.clipX = clipX;
+            this.clipWidth = clipWidth;
+            this.clipHeight = clipHeight;
+            this.scrollBarWidth = scrollBarWidth;
+            this.scrollBarHeight = scrollBarHeight;
+        }
+
+        double getFirstAreaWidth() {
+            return firstAreaWidth;
+        }
+
+        double getFirstAreaHeight() {
+            return firstAreaHeight;
+        }
+
+        double getStickyAreaWidth() {
+            return stickyAreaWidth;
+        }
+
+        double getStickyAreaHeight() {
+            return stickyAreaHeight;
+        }
+
+        double getLastAreaWidth() {
+            return lastAreaWidth;
+        }
+
+        double getLastAreaHeight() {
+            return lastAreaHeight;
+        }
+
+        double getDropPositionWidth() {
+            return dropPositionWidth;
+        }
+
+        double getHeadersPrefWidth() {
+            return headersPrefWidth;
+        }
+
+        double getHeadersPrefHeight() {
+            return headersPrefHeight;
+        }
+
+        boolean isTabsFit() {
+            return tabsFit;
+        }
+
+        double getClipX() {
+            return clipX;
+        }
+
+        double getClipWidth() {
+            return clipWidth;
+        }
+
+        double getClipHeight() {
+            return clipHeight;
+        }
+
+        double getScrollBarWidth() {
+            return scrollBarWidth;
+        }
+
+        double getScrollBarHeight() {
+            return scrollBarHeight;
+        }
+    }
+
 
 
 
@@ -2582,7 +4870,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
     public static final class TabHeaderContext {
 
-        private Tab tab;
+        private final ReadOnlyObjectWrapper<Tab> tab = new ReadOnlyObjectWrapper<>(this, "tab");
 
         private boolean phantom;
 
@@ -2598,12 +4886,23 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             //empty
         }
 
+        /**
+         * The tab of the header. The tab is changed when a header taken from the pool of the header area is rebound
+         * to another tab (see {@link TabHeaderSkin#isRebindable()}), so a custom header can listen to this property
+         * to update its state.
+         *
+         * @return the read-only property holding the tab of the header
+         */
+        public ReadOnlyObjectProperty<Tab> tabProperty() {
+            return tab.getReadOnlyProperty();
+        }
+
         public Tab getTab() {
-            return tab;
+            return tab.get();
         }
 
         private void setTab(Tab tab) {
-            this.tab = tab;
+            this.tab.set(tab);
         }
 
         /**
@@ -2717,7 +5016,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
     }
 
     public static class TabHeaderSkin extends StackPane {
-        private final Tab tab;
+        private Tab tab;
         private Tab getTab() {
             return tab;
         }
@@ -2732,6 +5031,29 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
         private int index;
 
+        /**
+         * The cached snapped pref width, -1 if it is not computed.
+         */
+        private double cachedPrefWidth = -1;
+
+        /**
+         * The cached snapped pref height, -1 if it is not computed.
+         */
+        private double cachedPrefHeight = -1;
+
+        /**
+         * Whether the header requested layout and its pref size must be compared with the size known to the
+         * header area in the next layout pass.
+         */
+        private boolean prefSizeCheckPending = false;
+
+        /**
+         * The pref size of the header before the pending layout request.
+         */
+        private double checkedPrefWidth;
+
+        private double checkedPrefHeight;
+
         private LambdaMultiplePropertyChangeListenerHandler listener = new LambdaMultiplePropertyChangeListenerHandler();
 
         private final ListChangeListener<String> styleClassListener = new ListChangeListener<>() {
@@ -2749,16 +5071,13 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         public TabHeaderSkin(TabHeaderContext context) {
             this.context = context;
             this.tab = context.getTab();
-            getStyleClass().setAll(tab.getStyleClass());
-            setId(tab.getId());
-            setStyle(tab.getStyle());
             setAccessibleRole(AccessibleRole.TAB_ITEM);
             setViewOrder(1);
 
             clip = new Rectangle();
             setClip(clip);
 
-            label = new Label(tab.getText(), tab.getGraphic());
+            label = new Label();
             label.getStyleClass().setAll("tab-label");
 
             closeBtn = new StackPane() {
@@ -2786,19 +5105,6 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             closeBtn.setAccessibleRole(AccessibleRole.BUTTON);
             closeBtn.setAccessibleText(context.getResourceBundle().getString("Accessibility.title.TabPane.CloseButton"));
             closeBtn.getStyleClass().setAll("tab-close-button");
-            closeBtn.setOnMousePressed(new EventHandler<MouseEvent>() {
-                @Override
-                public void handle(MouseEvent me) {
-                    Tab tab = getTab();
-                    if (me.getButton().equals(MouseButton.PRIMARY) && context.getBehavior().canCloseTab(tab)) {
-                        context.getBehavior().closeTab(tab);
-                        setOnMousePressed(null);
-                        me.consume();
-                    }
-                }
-            });
-
-            updateGraphicRotation();
 
             final Region focusIndicator = new Region();
             focusIndicator.setMouseTransparent(true);
@@ -2856,7 +5162,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                         labelHeight = maxHeight;
                     }
 
-                    if (getAnimationState() != TabAnimationState.NONE) {
+                    if (getAnimationState() != TabAnimationState.NONE && !scaleAnimated) {
 //                        if (prefWidth.getValue() < labelAreaWidth) {
 //                            labelAreaWidth = prefWidth.getValue();
 //                        }
@@ -2905,11 +5211,43 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 }
             };
             inner.getStyleClass().add("tab-container");
-            inner.setRotate(getSkinnable().getSide().equals(Side.BOTTOM) ? 180.0F : 0.0F);
             inner.getChildren().addAll(label, closeBtn, focusIndicator);
 
             getChildren().add(inner);
 
+            bindTab();
+
+            if (!context.isPhantom()) {
+                setOnDragDetected(e -> handleDragDetected(e));
+                setOnMouseDragged(e -> handleMouseDragged(e));
+                setOnMouseReleased(e -> handleMouseReleased(e));
+                setOnMouseDragOver(e -> handleMouseDragOver(e));
+            }
+        }
+
+        /**
+         * Installs the state and the listeners that depend on the tab. Called by the constructor and when
+         * the header is rebound to another tab.
+         */
+        private void bindTab() {
+            getStyleClass().setAll(tab.getStyleClass());
+            setId(tab.getId());
+            setStyle(tab.getStyle());
+            label.setText(tab.getText());
+            label.setGraphic(tab.getGraphic());
+
+            closeBtn.setOnMousePressed(new EventHandler<MouseEvent>() {
+                @Override
+                public void handle(MouseEvent me) {
+                    Tab tab = getTab();
+                    if (me.getButton().equals(MouseButton.PRIMARY) && context.getBehavior().canCloseTab(tab)) {
+                        context.getBehavior().closeTab(tab);
+                        setOnMousePressed(null);
+                        me.consume();
+                    }
+                }
+            });
+
             tooltip = tab.getTooltip();
             if (tooltip != null) {
                 Tooltip.install(this, tooltip);
@@ -2945,47 +5283,11 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             listener.registerChangeListener(tab.disabledProperty(), e -> {
                 updateTabDisabledState();
             });
-            if (tab.getTabPane() != null) {
-                listener.registerChangeListener(tab.getTabPane().disabledProperty(), e -> {
-                    updateTabDisabledState();
-                });
-            }
             listener.registerChangeListener(tab.styleProperty(), e -> setStyle(tab.getStyle()));
 
             tab.getStyleClass().addListener(weakStyleClassListener);
 
-            listener.registerChangeListener(getSkinnable().tabClosingPolicyProperty(),e -> {
-                inner.requestLayout();
-                requestLayout();
-            });
-            listener.registerChangeListener(getSkinnable().sideProperty(),e -> {
-                final Side side = getSkinnable().getSide();
-                pseudoClassStateChanged(TOP_PSEUDOCLASS_STATE, (side == Side.TOP));
-                pseudoClassStateChanged(RIGHT_PSEUDOCLASS_STATE, (side == Side.RIGHT));
-                pseudoClassStateChanged(BOTTOM_PSEUDOCLASS_STATE, (side == Side.BOTTOM));
-                pseudoClassStateChanged(LEFT_PSEUDOCLASS_STATE, (side == Side.LEFT));
-                inner.setRotate(side == Side.BOTTOM ? 180.0F : 0.0F);
-                if (getSkinnable().isRotateGraphic()) {
-                    updateGraphicRotation();
-                }
-            });
-            listener.registerChangeListener(getSkinnable().rotateGraphicProperty(), e -> updateGraphicRotation());
-            listener.registerChangeListener(getSkinnable().tabMinWidthProperty(), e -> {
-                requestLayout();
-                getSkinnable().requestLayout();
-            });
-            listener.registerChangeListener(getSkinnable().tabMaxWidthProperty(), e -> {
-                requestLayout();
-                getSkinnable().requestLayout();
-            });
-            listener.registerChangeListener(getSkinnable().tabMinHeightProperty(), e -> {
-                requestLayout();
-                getSkinnable().requestLayout();
-            });
-            listener.registerChangeListener(getSkinnable().tabMaxHeightProperty(), e -> {
-                requestLayout();
-                getSkinnable().requestLayout();
-            });
+            // the properties of the tab pane are observed by the header area, see TabHeaderArea.forEachTabHeader
 
             getProperties().put(Tab.class, tab);
             getProperties().put(ContextMenu.class, tab.getContextMenu());
@@ -3026,18 +5328,22 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             // initialize pseudo-class state
             pseudoClassStateChanged(SELECTED_PSEUDOCLASS_STATE, tab.isSelected());
             pseudoClassStateChanged(DISABLED_PSEUDOCLASS_STATE, tab.isDisabled());
+            updateSide();
+        }
+
+        private void updateSide() {
             final Side side = getSkinnable().getSide();
             pseudoClassStateChanged(TOP_PSEUDOCLASS_STATE, (side == Side.TOP));
             pseudoClassStateChanged(RIGHT_PSEUDOCLASS_STATE, (side == Side.RIGHT));
             pseudoClassStateChanged(BOTTOM_PSEUDOCLASS_STATE, (side == Side.BOTTOM));
             pseudoClassStateChanged(LEFT_PSEUDOCLASS_STATE, (side == Side.LEFT));
+            inner.setRotate(side == Side.BOTTOM ? 180.0F : 0.0F);
+            updateGraphicRotation();
+        }
 
-            if (!context.isPhantom()) {
-                setOnDragDetected(e -> handleDragDetected(e));
-                setOnMouseDragged(e -> handleMouseDragged(e));
-                setOnMouseReleased(e -> handleMouseReleased(e));
-                setOnMouseDragOver(e -> handleMouseDragOver(e));
-            }
+        private void requestInnerLayout() {
+            inner.requestLayout();
+            requestLayout();
         }
 
         private void updateTabDisabledState() {
@@ -3060,9 +5366,28 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                     getSkinnable().getTabClosingPolicy().equals(TabClosingPolicy.SELECTED_TAB) && tab.isSelected());
         }
 
+        /**
+         * Whether the transition is being updated by the animation driver, which requests the layout of
+         * the headers region once per pulse itself.
+         */
+        private boolean animationFrame;
+
+        /**
+         * Whether the header is animated by scaling, so its layout doesn't depend on the animation.
+         */
+        private boolean scaleAnimated;
+
         private final DoubleProperty animationTransition = new SimpleDoubleProperty(this, "animationTransition", 1.0) {
             @Override protected void invalidated() {
+                if (animationFrame) {
+                    setNeedsLayout(true);
+                    return;
+                }
                 requestLayout();
+                // the pref size doesn't depend on the transition, but the headers region uses it for layout
+                if (getParent() != null) {
+                    getParent().requestLayout();
+                }
             }
         };
 
@@ -3073,14 +5398,81 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             setOnMousePressed(null);
         }
 
+        /**
+         * Returns whether this header can be returned to the pool of the header area and later rebound to another
+         * tab (see {@link TabHeaderArea#tabHeaderPoolSizeProperty()}).
+         * <p>
+         * The base header supports rebinding. A subclass that keeps any state depending on the tab must update this
+         * state in {@link #onRebind()} (or listen to {@link TabHeaderContext#tabProperty()}) and override this
+         * method to return {@code true}, otherwise its instances are never pooled.
+         *
+         * @return {@code true} if this header can be rebound to another tab; {@code false} otherwise
+         */
+        public boolean isRebindable() {
+            return getClass() == TabHeaderSkin.class;
+        }
+
+        /**
+         * Called after this header, taken from the pool, has been rebound to another tab. When this method is called,
+         * {@link TabHeaderContext#getTab()} returns the new tab and the state of the base header (text, graphic,
+         * tooltip, style, pseudo classes and listeners) has been updated.
+         */
+        protected void onRebind() {
+            // empty
+        }
+
+        /**
+         * Resets the state of the disposed header before it is returned to the pool. The header keeps no references
+         * to its old tab.
+         */
+        private void recycle() {
+            isClosing = false;
+            setAnimationState(TabAnimationState.NONE);
+            animationTransition.set(1.0);
+            setViewOrder(1);
+            setIndex(0);
+            if (oldTooltip != null) {
+                Tooltip.uninstall(this, oldTooltip);
+            }
+            oldTooltip = null;
+            tooltip = null;
+            label.setText(null);
+            label.setGraphic(null);
+            getProperties().remove(Tab.class);
+            getProperties().remove(ContextMenu.class);
+            this.tab = null;
+            context.setTab(null);
+            prefSizeCheckPending = false;
+        }
+
+        private void rebind(Tab tab) {
+            this.tab = tab;
+            context.setTab(tab);
+            cachedPrefWidth = -1;
+            cachedPrefHeight = -1;
+            bindTab();
+            onRebind();
+        }
+
         private ReadOnlyObjectWrapper<TabAnimationState> animationState =
                 new ReadOnlyObjectWrapper(TabAnimationState.NONE);
-        private Timeline currentAnimation;
+
+        private void setAnimationFrame(double transition) {
+            animationFrame = true;
+            try {
+                animationTransition.set(transition);
+            } finally {
+                animationFrame = false;
+            }
+        }
 
         @Override protected double computePrefWidth(double height) {
 //            if (animating) {
 //                return prefWidth.getValue();
 //            }
+            if (height == -1 && cachedPrefWidth >= 0) {
+                return cachedPrefWidth;
+            }
             double minWidth = snapSizeX(getSkinnable().getTabMinWidth());
             double maxWidth = snapSizeX(getSkinnable().getTabMaxWidth());
             double paddingRight = snappedRightInset();
@@ -3095,10 +5487,16 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             }
             tmpPrefWidth += paddingRight + paddingLeft;
 //            prefWidth.setValue(tmpPrefWidth);
+            if (height == -1) {
+                cachedPrefWidth = tmpPrefWidth;
+            }
             return tmpPrefWidth;
         }
 
         @Override protected double computePrefHeight(double width) {
+            if (width == -1 && cachedPrefHeight >= 0) {
+                return cachedPrefHeight;
+            }
             double minHeight = snapSizeY(getSkinnable().getTabMinHeight());
             double maxHeight = snapSizeY(getSkinnable().getTabMaxHeight());
             double paddingTop = snappedTopInset();
@@ -3112,6 +5510,9 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 tmpPrefHeight = minHeight;
             }
             tmpPrefHeight += paddingTop + paddingBottom;
+            if (width == -1) {
+                cachedPrefHeight = tmpPrefHeight;
+            }
             return tmpPrefHeight;
         }
 
@@ -3132,6 +5533,62 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             inner.relocate(leftPadding, topPadding);
         }
 
+        /**
+         * Requests layout of this header. The layout is requested by the children (for example, when the text of
+         * the label changes) and by the listeners of the tab and the tab pane properties that affect the size
+         * (closable, tab closing policy, min/max sizes etc). The pref size is not measured here, because the
+         * request can come in the middle of the CSS pass. The header is marked width-dirty and its pref size is
+         * compared once in the layout pass, see {@link #updatePrefSize()}.
+         */
+        @Override
+        public void requestLayout() {
+            if (prefSizeCheckPending) {
+                setNeedsLayout(true);
+                return;
+            }
+            // the context is null when the layout is requested by the super constructor
+            if (context == null || context.isPhantom() || getParent() == null || cachedPrefWidth < 0
+                    || cachedPrefHeight < 0) {
+                cachedPrefWidth = -1;
+                cachedPrefHeight = -1;
+                super.requestLayout();
+                if (context != null && !context.isPhantom()) {
+                    context.getTabHeaderArea().invalidateTabWidth(this);
+                }
+                return;
+            }
+            checkedPrefWidth = cachedPrefWidth;
+            checkedPrefHeight = cachedPrefHeight;
+            cachedPrefWidth = -1;
+            cachedPrefHeight = -1;
+            prefSizeCheckPending = true;
+            setNeedsLayout(true);
+            var area = context.getTabHeaderArea();
+            area.invalidateTabWidth(this);
+            area.requestPrefSizeCheck(this);
+        }
+
+        /**
+         * Compares the pref size of the header with the size before the pending layout request. It is called by
+         * the header area in the layout pass. If the size changed, the layout of the headers region is requested.
+         *
+         * @return true if the pref size changed, otherwise false.
+         */
+        private boolean updatePrefSize() {
+            if (!prefSizeCheckPending) {
+                return false;
+            }
+            prefSizeCheckPending = false;
+            var prefWidth = computePrefWidth(-1);
+            var prefHeight = computePrefHeight(-1);
+            if (Math.abs(prefWidth - checkedPrefWidth) < 0.001 && Math.abs(prefHeight - checkedPrefHeight) < 0.001) {
+                // the cached pref size of the parent is still valid
+                return false;
+            }
+            super.requestLayout();
+            return true;
+        }
+
         @Override protected void setWidth(double value) {
             super.setWidth(value);
             clip.setWidth(value);
@@ -3180,11 +5637,10 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 getSkinnable().fireEvent(new TabEvent(TabEvent.TAB_DRAG_STARTED, getTab()));
                 var skin = (TabPaneProSkin) getSkinnable().getSkin();
                 var tabHeaderaArea = skin.getTabHeaderArea();
-                Node content = tabHeaderaArea.getTabDragContentFactory().apply(this);
-                var dragPopup = new Popup();
+                var dragPopup = getSkinnable().getDragAndDropContext().getDragPopup();
+                dragPopup.getContent().clear();
                 tabHeaderaArea.setDragPopup(dragPopup);
-                dragPopup.setAutoHide(false);
-                dragPopup.getContent().add(content);
+                tabHeaderaArea.dragContent = tabHeaderaArea.createTabDragContent(this);
                 var scene = getSkinnable().getScene();
                 tabHeaderaArea.setSceneOnDrag(scene);
                 if (scene.getCursor() == null) {
@@ -3196,7 +5652,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 cursor = cursor != null ? cursor : Cursor.DEFAULT;
                 scene.setCursor(cursor);
                 startFullDrag();
-                dragPopup.show(getScene().getWindow(), e.getScreenX(), e.getScreenY());
+                tabHeaderaArea.moveTabDragContent(e);
                 var context = getSkinnable().getDragAndDropContext();
                 context.setTab(getTab());
                 context.setDragInProgress(true);
@@ -3210,10 +5666,8 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 return;
             }
             var tabHeaderaArea = skin.getTabHeaderArea();
-            var dragPopup = tabHeaderaArea.getDragPopup();
-            if (dragPopup != null) {
-                dragPopup.setAnchorX(e.getScreenX());
-                dragPopup.setAnchorY(e.getScreenY());
+            if (tabHeaderaArea.getDragPopup() != null) {
+                tabHeaderaArea.moveTabDragContent(e);
                 e.consume();
             }
         }
@@ -3237,6 +5691,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                     var otherSkin = (TabPaneProSkin) otherTabPane.getSkin();
                     // mouseDragReleased is not used because we lose mouseReleaseEvent when we move tab within one TabPane
                     var otherHeaderArea = otherSkin.tabHeaderArea;
+                    otherHeaderArea.stopScrollOnDrag();
                     otherHeaderArea.moveTab();
                     otherHeaderArea.setDropIndex(-1);
                     otherTabPane.fireEvent(new TabEvent(TabEvent.TAB_DROPPED, context.getTab()));
@@ -3252,58 +5707,7 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             if (!skin.isDragInProgress()) {
                 return;
             }
-            var tabHeaderArea = context.getTabHeaderArea();
-            switch (getSkinnable().getSide()) {
-                case TOP:
-                case RIGHT:
-                    if (e.getX() <= getWidth() / 2) {
-                        if (tabHeaderArea.isLeftEdgeVisible(this)) {
-                            tabHeaderArea.setDropIndex(index);
-                        } else {
-                            tabHeaderArea.setDropIndex(-1);
-                        }
-                    } else {
-                        if (tabHeaderArea.isRightEdgeVisible(this)) {
-                            tabHeaderArea.setDropIndex(index + 1);
-                        } else {
-                            tabHeaderArea.setDropIndex(-1);
-                        }
-                    }
-                    break;
-                case BOTTOM:
-                    if (e.getX() >= getWidth() / 2) {
-                        if (tabHeaderArea.isLeftEdgeVisible(this)) {
-                            tabHeaderArea.setDropIndex(index);
-                        } else {
-                            tabHeaderArea.setDropIndex(-1);
-                        }
-                    } else {
-                        if (tabHeaderArea.isRightEdgeVisible(this)) {
-                            tabHeaderArea.setDropIndex(index + 1);
-                        } else {
-                            tabHeaderArea.setDropIndex(-1);
-                        }
-                    }
-                    break;
-                case LEFT:
-                    if (e.getX() <= getWidth() / 2) {
-                        if (tabHeaderArea.isLeftEdgeVisible(this)) {
-                            tabHeaderArea.setDropIndex(index + 1);
-                        } else {
-                            tabHeaderArea.setDropIndex(-1);
-                        }
-                    } else {
-                        if (tabHeaderArea.isRightEdgeVisible(this)) {
-                            tabHeaderArea.setDropIndex(index);
-                        } else {
-                            tabHeaderArea.setDropIndex(-1);
-                        }
-                    }
-                    break;
-                default:
-                    throw new AssertionError();
-            }
-            tabHeaderArea.checkScrollOnDrag(e);
+            context.getTabHeaderArea().handleTabHeaderDragOver(this, e);
             e.consume();
         }
 
@@ -3347,17 +5751,290 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             PseudoClass.getPseudoClass("disabled");
 
 
+    /* ************************************************************************
+     *
+     * TabAnimationDriver: drives the open/close animations of the tab headers
+     *
+     **************************************************************************/
+
+    /**
+     * Drives the open/close animations of all the tab headers with a single animation timer. On every pulse
+     * the transitions of all the animated headers are advanced and the layout of the headers region is requested
+     * once, regardless of the number of the animated headers.
+     * <p>
+     * The scale animations don't change the transition of the headers. The headers are laid out at their final
+     * positions, the animated header is scaled along its length and its successors are translated by the part of
+     * its length that is not shown yet. Only the headers that can be visible are transformed, so the frames don't
+     * require layout and don't depend on the number of the tabs.
+     */
+    final class TabAnimationDriver extends AnimationTimer {
+
+        private final class HeaderAnimation {
+
+            private final double startValue;
+
+            private final double endValue;
+
+            private final boolean scale;
+
+            private final EventHandler<ActionEvent> onFinished;
+
+            /**
+             * The time of the first pulse, -1 if there was no pulse yet.
+             */
+            private long startTime = -1;
+
+            private double value;
+
+            HeaderAnimation(double startValue, double endValue, boolean scale, EventHandler<ActionEvent> onFinished) {
+                this.startValue = startValue;
+                this.endValue = endValue;
+                this.scale = scale;
+                this.onFinished = onFinished;
+                this.value = startValue;
+            }
+        }
+
+        private static final long DURATION = (long) (ANIMATION_SPEED * 1_000_000);
+
+        private final Map<TabHeaderSkin, HeaderAnimation> animations = new LinkedHashMap<>();
+
+        /**
+         * The headers that are currently scaled or translated.
+         */
+        private Set<TabHeaderSkin> transformedHeaders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /**
+         * The set that is swapped with {@link #transformedHeaders} on every update, so no set is created per frame.
+         */
+        private Set<TabHeaderSkin> spareHeaders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private int scaleAnimationCount;
+
+        private boolean running;
+
+        /**
+         * Animates the transition of the header from its current value to the end value. The handler is called
+         * when the animation finishes.
+         */
+        void play(TabHeaderSkin header, double endValue, boolean scale, EventHandler<ActionEvent> onFinished) {
+            play(header, scale ? 1.0 : header.animationTransition.get(), endValue, scale, onFinished);
+        }
+
+        void play(TabHeaderSkin header, double startValue, double endValue, boolean scale,
+                EventHandler<ActionEvent> onFinished) {
+            var old = animations.put(header, new HeaderAnimation(startValue, endValue, scale, onFinished));
+            if (old != null && old.scale) {
+                scaleAnimationCount--;
+            }
+            header.scaleAnimated = scale;
+            if (scale) {
+                scaleAnimationCount++;
+                updateTransformedHeaders();
+            }
+            if (!running) {
+                running = true;
+                start();
+            }
+        }
+
+        /**
+         * Completes the animation of the header immediately, calling its handler.
+         */
+        void finish(TabHeaderSkin header) {
+            var animation = remove(header);
+            if (animation != null) {
+                if (!animation.scale) {
+                    header.setAnimationFrame(animation.endValue);
+                    tabHeaderArea.headersRegion.requestLayout();
+                }
+                animation.onFinished.handle(null);
+            }
+        }
+
+        /**
+         * Removes the animation of the header without calling its handler.
+         */
+        void cancel(TabHeaderSkin header) {
+            remove(header);
+        }
+
+        private HeaderAnimation remove(TabHeaderSkin header) {
+            var animation = animations.remove(header);
+            if (animation != null) {
+                header.scaleAnimated = false;
+                if (animation.scale) {
+                    scaleAnimationCount--;
+                    updateTransformedHeaders();
+                }
+            }
+            return animation;
+        }
+
+        @Override
+        public void handle(long now) {
+            List<TabHeaderSkin> finishedHeaders = null;
+            boolean layoutNeeded = false;
+            for (var entry : animations.entrySet()) {
+                var animation = entry.getValue();
+                if (animation.startTime < 0) {
+                    animation.startTime = now;
+                }
+                double fraction = Math.min(1.0, (double) (now - animation.startTime) / DURATION);
+                animation.value = animation.startValue + (animation.endValue - animation.startValue) * fraction;
+                if (!animation.scale) {
+                    entry.getKey().setAnimationFrame(animation.value);
+                    layoutNeeded = true;
+                }
+                if (fraction >= 1.0) {
+                    if (finishedHeaders == null) {
+                        finishedHeaders = new ArrayList<>();
+                    }
+                    finishedHeaders.add(entry.getKey());
+                }
+            }
+            if (layoutNeeded) {
+                tabHeaderArea.headersRegion.requestLayout();
+            }
+            if (scaleAnimationCount > 0) {
+                updateTransformedHeaders();
+            }
+            if (finishedHeaders != null) {
+                for (TabHeaderSkin header : finishedHeaders) {
+                    var animation = remove(header);
+                    if (animation != null) {
+                        animation.onFinished.handle(null);
+                    }
+                }
+            }
+            if (animations.isEmpty()) {
+                stop();
+            }
+        }
+
+        @Override
+        public void stop() {
+            super.stop();
+            running = false;
+        }
+
+        boolean isRunning() {
+            return running;
+        }
+
+        int getAnimationCount() {
+            return animations.size();
+        }
+
+        /**
+         * Scales the headers with the scale animations and translates their successors, the headers that are
+         * transformed no more are reset.
+         */
+        private void updateTransformedHeaders() {
+            if (scaleAnimationCount == 0 && transformedHeaders.isEmpty()) {
+                return;
+            }
+            var headers = spareHeaders;
+            if (scaleAnimationCount > 0) {
+                var headersRegion = tabHeaderArea.headersRegion;
+                var side = getSkinnable().getSide();
+                // the direction in which the headers are built
+                double direction = side == Side.LEFT || side == Side.BOTTOM ? -1 : 1;
+                double gap = snapSizeX(tabHeaderArea.getTabGap());
+                double visibleStart = tabHeaderArea.headerClip.getX();
+                double visibleEnd = visibleStart + tabHeaderArea.headerClip.getWidth();
+                var children = headersRegion.getChildren();
+                // the headers before the first animated one are not transformed
+                int from = findFirstScaledHeader(children);
+                // the length of the animated headers that is not shown yet
+                double shift = 0;
+                for (int i = from; i < children.size(); i++) {
+                    var header = (TabHeaderSkin) children.get(i);
+                    var animation = animations.get(header);
+                    var scaled = animation != null && animation.scale;
+                    double x = header.getLayoutX() - direction * shift;
+                    if (!scaled && (direction > 0 ? x > visibleEnd : x + header.getWidth() < visibleStart)) {
+                        // the remaining headers are not visible
+                        break;
+                    }
+                    double translateX = -direction * shift;
+                    if (scaled) {
+                        double length = snapSizeX(header.prefWidth(-1));
+                        double hidden = (1 - animation.value) * length;
+                        // the header grows from its edge that is adjacent to the previous header
+                        translateX -= direction * hidden / 2;
+                        header.setScaleX(animation.value);
+                        shift += (1 - animation.value) * (length + gap);
+                    } else {
+                        header.setScaleX(1);
+                    }
+                    header.setTranslateX(translateX);
+                    headers.add(header);
+                }
+            }
+            for (TabHeaderSkin header : transformedHeaders) {
+                if (!headers.contains(header)) {
+                    header.setScaleX(1);
+                    header.setTranslateX(0);
+                }
+            }
+            transformedHeaders.clear();
+            spareHeaders = transformedHeaders;
+            transformedHeaders = headers;
+        }
+
+        /**
+         * Returns the position of the first header with the scale animation in the children of the headers region.
+         * The positions are resolved by the indexes of the headers, the children are scanned only when an index is
+         * stale or the header is not in the children.
+         */
+        private int findFirstScaledHeader(List<Node> children) {
+            if (children.isEmpty()) {
+                return 0;
+            }
+            // the virtual headers are indexed by the tabs, so the positions are counted from the first child
+            int base = ((TabHeaderSkin) children.get(0)).getIndex();
+            int from = children.size();
+            for (var entry : animations.entrySet()) {
+                if (entry.getValue().scale) {
+                    int index = entry.getKey().getIndex() - base;
+                    if (index < 0 || index >= children.size() || children.get(index) != entry.getKey()) {
+                        return scanFirstScaledHeader(children);
+                    }
+                    from = Math.min(from, index);
+                }
+            }
+            return from;
+        }
+
+        private int scanFirstScaledHeader(List<Node> children) {
+            for (int i = 0; i < children.size(); i++) {
+                var animation = animations.get(children.get(i));
+                if (animation != null && animation.scale) {
+                    return i;
+                }
+            }
+            return children.size();
+        }
+    }
+
     /* ************************************************************************
      *
      * TabContentRegion: each tab has one to contain the tab's content node
      *
      **************************************************************************/
+
     static class TabContentRegion extends StackPane {
 
         private Tab tab;
 
+        private Consumer<TabContentRegion> onContentChanged;
+
         private InvalidationListener tabContentListener = valueModel -> {
             updateContent();
+            if (onContentChanged != null) {
+                onContentChanged.accept(this);
+            }
         };
         private InvalidationListener tabSelectedListener = new InvalidationListener() {
             @Override public void invalidated(Observable valueModel) {
@@ -3370,10 +6047,42 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         private WeakInvalidationListener weakTabSelectedListener =
                 new WeakInvalidationListener(tabSelectedListener);
 
+        private Consumer<TabContentRegion> onLayoutRequested;
+
+        /**
+         * The index of this region in the list of the content regions, so the region is removed without a scan.
+         */
+        private int index = -1;
+
         public Tab getTab() {
             return tab;
         }
 
+        @Override
+        public void requestLayout() {
+            super.requestLayout();
+            // the listener is null when the layout is requested by the super constructor
+            if (onLayoutRequested != null) {
+                onLayoutRequested.accept(this);
+            }
+        }
+
+        private void setOnLayoutRequested(Consumer<TabContentRegion> onLayoutRequested) {
+            this.onLayoutRequested = onLayoutRequested;
+        }
+
+        private int getIndex() {
+            return index;
+        }
+
+        private void setIndex(int index) {
+            this.index = index;
+        }
+
+        private void setOnContentChanged(Consumer<TabContentRegion> onContentChanged) {
+            this.onContentChanged = onContentChanged;
+        }
+
         public TabContentRegion(Tab tab) {
             getStyleClass().setAll("tab-content-area");
             setManaged(false);
@@ -3397,6 +6106,8 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         public void dispose() {
             tab.selectedProperty().removeListener(weakTabSelectedListener);
             tab.contentProperty().removeListener(weakTabContentListener);
+            onLayoutRequested = null;
+            onContentChanged = null;
         }
 
     } /* End TabContentRegion */
@@ -3410,38 +6121,113 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
         private ContextMenu popup;
 
+        private final ToggleGroup group = new ToggleGroup();
+
+        /**
+         * Whether the items of the popup menu don't correspond to the tabs. The menu is rebuilt only when it is
+         * shown, while it is showing it is updated incrementally. The items are cleared when the menu is hidden.
+         */
+        private boolean popupMenuDirty = true;
+
         public TabsMenuManager() {
             TabPane tabPane = getSkinnable();
-            setupPopupMenu();
             tabPane.getTabs().addListener(weakTabsListenerForPopup);
             //getProperties().put(ContextMenu.class, popup);
         }
 
-        ListChangeListener<Tab> tabsListenerForPopup = e -> setupPopupMenu();
+        ListChangeListener<Tab> tabsListenerForPopup = c -> {
+            if (popupMenuDirty || popup == null || !popup.isShowing() || tabsBeforeUpdate != null) {
+                popupMenuDirty = true;
+            } else {
+                updatePopupMenu(c);
+            }
+        };
         WeakListChangeListener weakTabsListenerForPopup =
                 new WeakListChangeListener<>(tabsListenerForPopup);
 
         void dispose() {
             getSkinnable().getTabs().removeListener(weakTabsListenerForPopup);
+            clearPopupMenu();
+        }
+
+        /**
+         * Returns the number of the items of the popup menu, the items exist only while the menu is showing.
+         */
+        int getMenuItemCount() {
+            return popup == null ? 0 : popup.getItems().size();
         }
 
         private void setupPopupMenu() {
             if (popup == null) {
                 popup = new ContextMenu();
+                // the items of the hidden menu would keep the removed tabs reachable, so they are rebuilt on showing
+                popup.setOnHidden(e -> {
+                    clearPopupMenu();
+                    popupMenuDirty = true;
+                });
             }
             clearPopupMenu();
-            ToggleGroup group = new ToggleGroup();
-            ObservableList<RadioMenuItem> menuitems = FXCollections.<RadioMenuItem>observableArrayList();
+            List<MenuItem> menuitems = new ArrayList<>(getSkinnable().getTabs().size());
             for (final Tab tab : getSkinnable().getTabs()) {
-                TabMenuItem item = new TabMenuItem(tab);
-                item.setToggleGroup(group);
-                item.setOnAction(t -> {
-                    getSkinnable().getSelectionModel().select(tab);
-                    getSkinnable().requestFocus();
-                });
-                menuitems.add(item);
+                menuitems.add(createMenuItem(tab));
             }
             popup.getItems().addAll(menuitems);
+            popupMenuDirty = false;
+        }
+
+        /**
+         * Called when the items of the popup menu may not correspond to the tabs anymore.
+         */
+        private void invalidatePopupMenu() {
+            popupMenuDirty = true;
+            if (popup != null && popup.isShowing()) {
+                setupPopupMenu();
+            }
+        }
+
+        private TabMenuItem createMenuItem(Tab tab) {
+            TabMenuItem item = new TabMenuItem(tab);
+            item.setToggleGroup(group);
+            item.setOnAction(t -> {
+                getSkinnable().getSelectionModel().select(tab);
+                getSkinnable().requestFocus();
+            });
+            return item;
+        }
+
+        /**
+         * Applies the change of the tabs to the items of the showing menu.
+         */
+        private void updatePopupMenu(ListChangeListener.Change<? extends Tab> c) {
+            var items = popup.getItems();
+            while (c.next()) {
+                int from = c.getFrom();
+                if (c.wasPermutated()) {
+                    MenuItem[] permutedItems = new MenuItem[c.getTo() - from];
+                    for (int i = from; i < c.getTo(); i++) {
+                        permutedItems[c.getPermutation(i) - from] = items.get(i);
+                    }
+                    items.remove(from, c.getTo());
+                    items.addAll(from, List.of(permutedItems));
+                } else {
+                    if (c.wasRemoved()) {
+                        int to = from + c.getRemovedSize();
+                        for (int i = from; i < to; i++) {
+                            TabMenuItem item = (TabMenuItem) items.get(i);
+                            item.setToggleGroup(null);
+                            item.dispose();
+                        }
+                        items.remove(from, to);
+                    }
+                    if (c.wasAdded()) {
+                        List<MenuItem> addedItems = new ArrayList<>(c.getAddedSize());
+                        for (Tab tab : c.getAddedSubList()) {
+                            addedItems.add(createMenuItem(tab));
+                        }
+                        items.addAll(from, addedItems);
+                    }
+                }
+            }
         }
 
         private void clearPopupMenu() {
@@ -3449,15 +6235,19 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
                 return;
             }
             for (MenuItem item : popup.getItems()) {
+                ((TabMenuItem) item).setToggleGroup(null);
                 ((TabMenuItem) item).dispose();
             }
             popup.getItems().clear();
         }
 
         private void showPopupMenu(Node anchor) {
+            if (popup == null || popupMenuDirty) {
+                setupPopupMenu();
+            }
             for (MenuItem mi: popup.getItems()) {
                 TabMenuItem tmi = (TabMenuItem)mi;
-                if (selectedTab.equals(tmi.getTab())) {
+                if (selectedTab == tmi.getTab()) {
                     tmi.setSelected(true);
                     break;
                 }
@@ -3466,6 +6256,123 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         }
     } /* End TabsMenuManager*/
 
+    /**
+     * The tabs popup with a virtualized list. The cells are reused by the list view and are bound only to the tabs
+     * of the visible rows.
+     */
+    class TabsListPopup {
+
+        private final Popup popup = new Popup();
+
+        private final TextField filterField = new TextField();
+
+        private final FilteredList<Tab> filteredTabs;
+
+        private final ListView<Tab> listView;
+
+        TabsListPopup() {
+            filteredTabs = new FilteredList<>(getSkinnable().getTabs());
+            listView = new ListView<>(filteredTabs);
+            listView.setCellFactory(v -> new TabListCell());
+            listView.setOnMouseClicked(e -> {
+                if (e.getButton() == MouseButton.PRIMARY) {
+                    selectTab(listView.getSelectionModel().getSelectedItem());
+                }
+            });
+            listView.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+                if (e.getCode() == KeyCode.ENTER) {
+                    selectTab(listView.getSelectionModel().getSelectedItem());
+                    e.consume();
+                }
+            });
+            filterField.getStyleClass().add("filter-field");
+            filterField.textProperty().addListener((ov, oldV, newV) -> updateFilter(newV));
+            filterField.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+                switch (e.getCode()) {
+                    case ENTER:
+                        selectTab(listView.getSelectionModel().getSelectedItem());
+                        e.consume();
+                        break;
+                    case DOWN:
+                        listView.requestFocus();
+                        if (listView.getSelectionModel().isEmpty()) {
+                            listView.getSelectionModel().selectFirst();
+                        }
+                        e.consume();
+                        break;
+                    default:
+                        break;
+                }
+            });
+            VBox root = new VBox(filterField, listView);
+            root.getStyleClass().add("tabs-list-popup");
+            popup.getContent().add(root);
+            popup.setAutoHide(true);
+            popup.setOnHidden(e -> filterField.clear());
+        }
+
+        void show(Node anchor) {
+            listView.getSelectionModel().select(selectedTab);
+            int index = listView.getSelectionModel().getSelectedIndex();
+            if (index >= 0) {
+                listView.scrollTo(index);
+            }
+            Bounds bounds = anchor.localToScreen(anchor.getBoundsInLocal());
+            if (bounds == null) {
+                return;
+            }
+            popup.show(anchor, bounds.getMinX(), bounds.getMaxY());
+            filterField.requestFocus();
+        }
+
+        void dispose() {
+            popup.hide();
+            listView.setItems(null);
+        }
+
+        private void updateFilter(String text) {
+            if (text == null || text.isEmpty()) {
+                filteredTabs.setPredicate(null);
+            } else {
+                String filter = text.toLowerCase();
+                filteredTabs.setPredicate(tab -> tab.getText() != null
+                        && tab.getText().toLowerCase().contains(filter));
+            }
+            if (!filteredTabs.isEmpty()) {
+                listView.getSelectionModel().selectFirst();
+                listView.scrollTo(0);
+            }
+        }
+
+        private void selectTab(Tab tab) {
+            if (tab == null || tab.isDisable()) {
+                return;
+            }
+            popup.hide();
+            getSkinnable().getSelectionModel().select(tab);
+            getSkinnable().requestFocus();
+        }
+    } /* End TabsListPopup*/
+
+    static class TabListCell extends ListCell<Tab> {
+
+        @Override
+        protected void updateItem(Tab tab, boolean empty) {
+            super.updateItem(tab, empty);
+            textProperty().unbind();
+            disableProperty().unbind();
+            if (empty || tab == null) {
+                setText(null);
+                setGraphic(null);
+                setDisable(false);
+            } else {
+                textProperty().bind(tab.textProperty());
+                disableProperty().bind(tab.disableProperty());
+                setGraphic(TabPaneProSkin.clone(tab.getGraphic()));
+            }
+        }
+    }
+
     static class TabMenuItem extends RadioMenuItem {
         Tab tab;
 
@@ -3501,11 +6408,12 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
     public Object queryAccessibleAttribute(AccessibleAttribute attribute, Object... parameters) {
         switch (attribute) {
             case FOCUS_ITEM: return tabHeaderArea.getTabHeaderSkin(selectedTab);
-            case ITEM_COUNT: return tabHeaderArea.headersRegion.getChildren().size();
+            case ITEM_COUNT: return tabHeaderArea.isVirtualized() ? getSkinnable().getTabs().size()
+                    : tabHeaderArea.headersRegion.getChildren().size();
             case ITEM_AT_INDEX: {
                 Integer index = (Integer)parameters[0];
                 if (index == null) return null;
-                return tabHeaderArea.headersRegion.getChildren().get(index);
+                return tabHeaderArea.getTabHeaderSkinAt(index);
             }
             default: return super.queryAccessibleAttribute(attribute, parameters);
         }
@@ -3525,6 +6433,12 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
 
     private int dragTabHeaderStartIndex;
     private int dragTabHeaderIndex;
+    /**
+     * The indexes of the tab being reordered in the virtualized mode, where the positions of the headers in the
+     * headers region don't correspond to the indexes of the tabs.
+     */
+    private int dragTabStartIndex;
+    private int dragTabIndex;
     private TabHeaderSkin dragTabHeader;
     private TabHeaderSkin dropTabHeader;
     private StackPane headersRegion;
@@ -3788,6 +6702,8 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
             dragEventPrevLoc = getHeaderRegionLocalX(event);
             dragTabHeaderIndex = headersRegion.getChildren().indexOf(dragTabHeader);
             dragTabHeaderStartIndex = dragTabHeaderIndex;
+            dragTabStartIndex = tabHeaderArea.isVirtualized() ? dragTabHeader.getIndex() : dragTabHeaderIndex;
+            dragTabIndex = dragTabStartIndex;
             dragTabHeader.setViewOrder(0);
             dragHeaderDestX = dragTabHeader.getLayoutX();
         }
@@ -3815,45 +6731,50 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
     }
 
     private void reorderTabs() {
-        if (dragTabHeaderIndex != dragTabHeaderStartIndex) {
-            var tabList = getSkinnable().getTabs();
-            Tab fromTab = tabList.get(dragTabHeaderStartIndex);
-            Tab toTab = tabList.get(dragTabHeaderIndex);
-            if (!tabList.contains(fromTab) || !tabList.contains(toTab) || fromTab == toTab) {
-                return;
-            }
+        if (dragTabIndex != dragTabStartIndex) {
+            var fromIndex = dragTabStartIndex;
+            // the tabs will be in the final order, so the virtual window must not shift them any more
+            dragTabStartIndex = dragTabIndex;
+            moveTab(fromIndex, dragTabIndex);
+        }
+    }
 
-            // copied from TabObservableList.java.
-            this.reoderingInProgress = true;
-            // Perform reorder with the array of tabs.
-            Object[] a = tabList.toArray();
-            int fromIndex = tabList.indexOf(fromTab);
-            int toIndex = tabList.indexOf(toTab);
-            if (fromIndex == -1 || toIndex == -1) {
-                return;
-            }
-            int direction = (toIndex - fromIndex) / Math.abs(toIndex - fromIndex);
+    /**
+     * Moves the tab to the new index and selects it. The list of the tabs is updated with a single change, so
+     * the listeners of the tabs are notified only once.
+     */
+    void moveTab(int fromIndex, int toIndex) {
+        var tabList = getSkinnable().getTabs();
+        if (fromIndex == toIndex || fromIndex < 0 || toIndex < 0 || fromIndex >= tabList.size()
+                || toIndex >= tabList.size()) {
+            return;
+        }
 
-            for (int j = fromIndex; j != toIndex; j += direction) {
-                a[j] = a[j + direction];
-            }
-            a[toIndex] = fromTab;
+        // copied from TabObservableList.java.
+        this.reoderingInProgress = true;
+        // Perform reorder with the array of tabs.
+        Tab[] a = tabList.toArray(new Tab[0]);
+        Tab fromTab = a[fromIndex];
+        int direction = (toIndex - fromIndex) / Math.abs(toIndex - fromIndex);
 
-            // Update the list with reordered array.
-            ListIterator iter = tabList.listIterator();
-            for (int j = 0; j < tabList.size(); j++) {
-                iter.next();
-                iter.set(a[j]);
-            }
+        for (int j = fromIndex; j != toIndex; j += direction) {
+            a[j] = a[j + direction];
+        }
+        a[toIndex] = fromTab;
 
-            // Update selected tab & index.
-            getSkinnable().getSelectionModel().select(fromTab);
-            this.reoderingInProgress = false;
+        // Update the list with reordered array.
+        tabList.setAll(a);
 
-            tabHeaderArea.updateTabHeaderViewOrder(false);
-            // Fix for JDK-8122662
-            getSkinnable().requestLayout();
+        // Update selected tab & index.
+        getSkinnable().getSelectionModel().select(fromTab);
+        this.reoderingInProgress = false;
+
+        if (tabHeaderArea.isVirtualized()) {
+            tabHeaderArea.syncVirtualTabs();
         }
+        tabHeaderArea.updateTabHeaderViewOrder(false);
+        // Fix for JDK-8122662
+        getSkinnable().requestLayout();
     }
 
     private void resetDrag() {
@@ -3876,9 +6797,17 @@ public class TabPaneProSkin extends SkinBase<TabPanePro> {
         if (dropAnimHeader != null) {
             headersRegion.getChildren().remove(dropAnimHeader);
             headersRegion.getChildren().add(dragTabHeaderIndex, dropAnimHeader);
+            var previousIndex = dragTabHeaderIndex;
+            dragTabHeaderIndex = headersRegion.getChildren().indexOf(dragTabHeader);
+            var delta = dragTabHeaderIndex - previousIndex;
+            dragTabIndex += delta;
+            if (tabHeaderArea.isVirtualized()) {
+                // the headers keep the positions in the strip while the window is changed
+                dropAnimHeader.setIndex(dropAnimHeader.getIndex() - delta);
+                dragTabHeader.setIndex(dragTabIndex);
+            }
             dropAnimHeader = null;
             headersRegion.requestLayout();
-            dragTabHeaderIndex = headersRegion.getChildren().indexOf(dragTabHeader);
         }
     }
 
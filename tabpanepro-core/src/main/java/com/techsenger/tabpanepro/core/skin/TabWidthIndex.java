@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import java.util.Arrays;
+
+/**
+ * A Fenwick tree over the widths of the tab headers. Every tab occupies its width plus the tab gap, the gap after
+ * the last tab is not counted. The width of a tab can be unknown, in this case the estimated width is used, so
+ * the total width, the offset of a tab and the tab at an offset are computed in O(log n).
+ *
+ * @author Pavel Castornii
+ */
+final class TabWidthIndex {
+
+    private double[] widths = new double[0];
+
+    private boolean[] known = new boolean[0];
+
+    /**
+     * The tree of the known widths, 1-based.
+     */
+    private double[] widthTree = new double[1];
+
+    /**
+     * The tree of the numbers of the known widths, 1-based.
+     */
+    private int[] knownTree = new int[1];
+
+    private int size;
+
+    private int knownCount;
+
+    private double knownSum;
+
+    private double estimatedWidth;
+
+    private double gap;
+
+    /**
+     * Resets the index to the given number of tabs with unknown widths.
+     */
+    void reset(int size) {
+        this.size = size;
+        if (widths.length < size) {
+            widths = new double[size];
+            known = new boolean[size];
+            widthTree = new double[size + 1];
+            knownTree = new int[size + 1];
+        } else {
+            Arrays.fill(widths, 0, size, 0);
+            Arrays.fill(known, 0, size, false);
+            Arrays.fill(widthTree, 0, size + 1, 0);
+            Arrays.fill(knownTree, 0, size + 1, 0);
+        }
+        knownCount = 0;
+        knownSum = 0;
+    }
+
+    /**
+     * Puts the known width of the tab without updating the trees. It is used to fill the index after
+     * {@link #reset(int)}, when all the widths are put, {@link #buildTrees()} must be called.
+     */
+    void putWidth(int index, double width) {
+        if (!known[index]) {
+            known[index] = true;
+            knownCount++;
+        } else {
+            knownSum -= widths[index];
+        }
+        widths[index] = width;
+        knownSum += width;
+    }
+
+    /**
+     * Builds the trees from the widths in O(n).
+     */
+    void buildTrees() {
+        for (int i = 1; i <= size; i++) {
+            widthTree[i] = known[i - 1] ? widths[i - 1] : 0;
+            knownTree[i] = known[i - 1] ? 1 : 0;
+        }
+        for (int i = 1; i <= size; i++) {
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                widthTree[parent] += widthTree[i];
+                knownTree[parent] += knownTree[i];
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Inserts the given number of tabs with unknown widths at the index. Only the tree nodes after the index are
+     * rebuilt, so adding the tabs to the end costs O(count + log^2 n).
+     */
+    void insert(int index, int count) {
+        if (count <= 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(widths, index, widths, index + count, size - index);
+        System.arraycopy(known, index, known, index + count, size - index);
+        Arrays.fill(widths, index, index + count, 0);
+        Arrays.fill(known, index, index + count, false);
+        size += count;
+        rebuildTrees(index);
+    }
+
+    /**
+     * Removes the tabs from the {@code from} index (inclusive) to the {@code to} index (exclusive). Only the tree
+     * nodes after the {@code from} index are rebuilt.
+     */
+    void remove(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            if (known[i]) {
+                knownCount--;
+                knownSum -= widths[i];
+            }
+        }
+        System.arraycopy(widths, to, widths, from, size - to);
+        System.arraycopy(known, to, known, from, size - to);
+        size -= to - from;
+        rebuildTrees(from);
+    }
+
+    /**
+     * Sets the known width of the tab.
+     *
+     * @return {@code true} if the width has changed, otherwise {@code false}
+     */
+    boolean setWidth(int index, double width) {
+        if (known[index] && Math.abs(widths[index] - width) <= 0.001) {
+            return false;
+        }
+        double widthDelta = width - widths[index];
+        int knownDelta = known[index] ? 0 : 1;
+        widths[index] = width;
+        known[index] = true;
+        knownCount += knownDelta;
+        knownSum += widthDelta;
+        for (int i = index + 1; i <= size; i += i & -i) {
+            widthTree[i] += widthDelta;
+            knownTree[i] += knownDelta;
+        }
+        return true;
+    }
+
+    boolean isKnown(int index) {
+        return known[index];
+    }
+
+    /**
+     * Returns the known width of the tab or the estimated width if the width of the tab is unknown.
+     */
+    double getWidth(int index) {
+        return known[index] ? widths[index] : estimatedWidth;
+    }
+
+    int getKnownCount() {
+        return knownCount;
+    }
+
+    double getKnownSum() {
+        return knownSum;
+    }
+
+    double getEstimatedWidth() {
+        return estimatedWidth;
+    }
+
+    void setEstimatedWidth(double estimatedWidth) {
+        this.estimatedWidth = estimatedWidth;
+    }
+
+    double getGap() {
+        return gap;
+    }
+
+    void setGap(double gap) {
+        this.gap = gap;
+    }
+
+    /**
+     * Returns the width of all the tabs including the gaps between them.
+     */
+    double getTotalWidth() {
+        if (size == 0) {
+            return 0;
+        }
+        return knownSum + (size - knownCount) * estimatedWidth + (size - 1) * gap;
+    }
+
+    /**
+     * Returns the distance between the start of the first tab and the start of the tab with the given index.
+     */
+    double getOffset(int index) {
+        double sum = 0;
+        int count = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += widthTree[i];
+            count += knownTree[i];
+        }
+        return sum + (index - count) * estimatedWidth + index * gap;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (widths.length >= capacity) {
+            return;
+        }
+        int length = Math.max(capacity, widths.length * 2);
+        widths = Arrays.copyOf(widths, length);
+        known = Arrays.copyOf(known, length);
+        widthTree = Arrays.copyOf(widthTree, length + 1);
+        knownTree = Arrays.copyOf(knownTree, length + 1);
+    }
+
+    /**
+     * Returns the sum of the known widths of the first {@code count} tabs, without the gaps and the estimated widths.
+     */
+    private double getKnownPrefixSum(int count) {
+        double sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += widthTree[i];
+        }
+        return sum;
+    }
+
+    private int getKnownPrefixCount(int count) {
+        int result = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            result += knownTree[i];
+        }
+        return result;
+    }
+
+    /**
+     * Rebuilds the tree nodes that cover the tabs from the given index. The nodes before the index cover only the
+     * tabs that are not changed, so they remain valid and are used for the prefix sums of those tabs.
+     */
+    private void rebuildTrees(int from) {
+        int length = size - from;
+        double[] prefixWidths = new double[length + 1];
+        int[] prefixCounts = new int[length + 1];
+        prefixWidths[0] = getKnownPrefixSum(from);
+        prefixCounts[0] = getKnownPrefixCount(from);
+        for (int k = 0; k < length; k++) {
+            int i = from + k;
+            prefixWidths[k + 1] = prefixWidths[k] + (known[i] ? widths[i] : 0);
+            prefixCounts[k + 1] = prefixCounts[k] + (known[i] ? 1 : 0);
+        }
+        for (int node = from + 1; node <= size; node++) {
+            // the node covers the tabs from start (exclusive) to node (inclusive), 1-based
+            int start = node - (node & -node);
+            double startWidth;
+            int startCount;
+            if (start >= from) {
+                startWidth = prefixWidths[start - from];
+                startCount = prefixCounts[start - from];
+            } else {
+                startWidth = getKnownPrefixSum(start);
+                startCount = getKnownPrefixCount(start);
+            }
+            widthTree[node] = prefixWidths[node - from] - startWidth;
+            knownTree[node] = prefixCounts[node - from] - startCount;
+        }
+    }
+
+    /**
+     * Returns the index of the tab that contains the given offset, the gap after a tab belongs to that tab. If the
+     * offset is outside the tabs, the index of the nearest tab is returned. For an empty index returns -1.
+     */
+    int findIndex(double offset) {
+        if (size == 0) {
+            return -1;
+        }
+        // finds the number of the tabs whose end (including the gap) is not greater than the offset
+        int index = 0;
+        double remaining = offset;
+        for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+            int next = index + step;
+            if (next <= size) {
+                double nodeWidth = widthTree[next] + (step - knownTree[next]) * estimatedWidth + step * gap;
+                if (nodeWidth <= remaining) {
+                    index = next;
+                    remaining -= nodeWidth;
+                }
+            }
+        }
+        return Math.min(index, size - 1);
+    }
+}
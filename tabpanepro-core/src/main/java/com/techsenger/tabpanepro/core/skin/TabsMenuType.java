@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+/**
+ * Defines the popup that is shown by {@link TabPaneProSkin.TabHeaderArea#showTabsMenu(javafx.scene.Node)}.
+ *
+ * @author Pavel Castornii
+ */
+public enum TabsMenuType {
+
+    /**
+     * A context menu with one item per tab. Suitable for a moderate number of tabs.
+     */
+    CONTEXT_MENU,
+
+    /**
+     * A popup with a virtualized list of tabs and a filter field. Only the visible rows are created, so it is
+     * suitable for thousands of tabs.
+     */
+    LIST_VIEW
+}
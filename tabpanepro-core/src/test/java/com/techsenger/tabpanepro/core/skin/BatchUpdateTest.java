@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a batch update of the tabs is processed once as the difference between the tabs before and after it.
+ *
+ * @author Pavel Castornii
+ */
+class BatchUpdateTest {
+
+    private static TabPanePro createTabPane(int tabCount) {
+        var tabPane = new TabPanePro();
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(createTab("Tab " + i));
+        }
+        new Scene(tabPane, 400, 300);
+        tabPane.applyCss();
+        tabPane.layout();
+        return tabPane;
+    }
+
+    private static Tab createTab(String text) {
+        return new Tab(text, new Label(text));
+    }
+
+    private static TabPaneProSkin.TabHeaderArea getArea(TabPanePro tabPane) {
+        return ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+    }
+
+    private static Map<Tab, Node> getContentRegions(TabPanePro tabPane) {
+        Map<Tab, Node> regions = new IdentityHashMap<>();
+        for (var node : tabPane.getChildrenUnmodifiable()) {
+            if (node instanceof TabPaneProSkin.TabContentRegion) {
+                regions.put(((TabPaneProSkin.TabContentRegion) node).getTab(), node);
+            }
+        }
+        return regions;
+    }
+
+    @Test
+    void batchUpdate_tabsChanged_headersAndContentsMatchTabs() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(10);
+            var area = getArea(tabPane);
+            var tabs = tabPane.getTabs();
+            var keptTab = tabs.get(5);
+            var keptHeader = area.getTabHeaderSkin(keptTab);
+            var keptContent = getContentRegions(tabPane).get(keptTab);
+            var movedTab = tabs.get(8);
+            var movedHeader = area.getTabHeaderSkin(movedTab);
+            var removedTab = tabs.get(2);
+            var headerCount = area.getTabHeaders().size();
+
+            tabPane.batchUpdate(() -> {
+                tabs.remove(removedTab);
+                tabs.remove(movedTab);
+                tabs.add(0, movedTab);
+                tabs.add(3, createTab("New 1"));
+                tabs.add(createTab("New 2"));
+                // the headers are not changed until the end of the update
+                assertEquals(headerCount, area.getTabHeaders().size());
+            });
+
+            List<Node> headers = new ArrayList<>();
+            for (var tab : tabs) {
+                headers.add(area.getTabHeaderSkin(tab));
+            }
+            assertEquals(headers, area.getTabHeaders());
+            assertSame(keptHeader, area.getTabHeaderSkin(keptTab));
+            assertSame(movedHeader, area.getTabHeaderSkin(movedTab));
+            assertNull(area.getTabHeaderSkin(removedTab));
+            var contentRegions = getContentRegions(tabPane);
+            assertEquals(tabs.size(), contentRegions.size());
+            assertSame(keptContent, contentRegions.get(keptTab));
+            // the tabs are added and removed without animations
+            for (var header : area.getTabHeaders()) {
+                var state = ((TabPaneProSkin.TabHeaderSkin) header).getAnimationState();
+                assertEquals(TabPaneProSkin.TabAnimationState.NONE, state);
+            }
+        });
+    }
+
+    @Test
+    void batchUpdate_tabAddedAndRemoved_noHeaderAndContent() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(3);
+            var area = getArea(tabPane);
+            var tab = createTab("Temporary");
+
+            tabPane.batchUpdate(() -> {
+                tabPane.getTabs().add(tab);
+                tabPane.getTabs().remove(tab);
+            });
+
+            assertNull(area.getTabHeaderSkin(tab));
+            assertEquals(3, area.getTabHeaders().size());
+            assertNull(getContentRegions(tabPane).get(tab));
+        });
+    }
+
+    @Test
+    void batchUpdate_virtualMode_widthIndexMatchesTabs() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(0);
+            var area = getArea(tabPane);
+            area.setVirtualized(true);
+
+            tabPane.batchUpdate(() -> {
+                for (var i = 0; i < 5_000; i++) {
+                    tabPane.getTabs().add(createTab("Tab " + i));
+                }
+                tabPane.getTabs().remove(100, 200);
+            });
+            tabPane.layout();
+
+            assertEquals(4_900, area.getTabWidthIndex().size());
+            for (var header : area.getTabHeaders()) {
+                var tab = ((TabPaneProSkin.TabHeaderSkin) header).getContext().getTab();
+                assertSame(header, area.getTabHeaderSkin(tab));
+            }
+        });
+    }
+}
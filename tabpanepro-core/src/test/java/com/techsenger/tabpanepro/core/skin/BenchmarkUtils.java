@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package com.techsenger.tabpanepro.core.skin;
+
+import java.util.function.IntToLongFunction;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A plain timing harness that checks that the cost of an operation grows linearly with the number of the tabs.
+ * The benchmarks are tagged with {@link #TAG} and are excluded from the default build, they are run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ *
+ * @author Pavel Castornii
+ */
+final class BenchmarkUtils {
+
+    static final String TAG = "benchmark";
+
+    private static final int RUN_COUNT = 5;
+
+    /**
+     * Measures the operation for every tab count, taking the best of several runs, and checks that the time per tab
+     * for the largest count is less than half of the growth of the count. A quadratic cost would make the time per
+     * tab grow as the count itself.
+     *
+     * @param name the name of the measured operation.
+     * @param tabCounts the tab counts in the ascending order.
+     * @param operation returns the nanoseconds spent for the given tab count.
+     */
+    static void assertLinearScaling(String name, int[] tabCounts, IntToLongFunction operation) {
+        var nanos = measure(name, tabCounts, operation);
+        var nanosPerTab = new double[tabCounts.length];
+        for (var i = 0; i < tabCounts.length; i++) {
+            nanosPerTab[i] = (double) nanos[i] / tabCounts[i];
+        }
+        var growth = nanosPerTab[tabCounts.length - 1] / nanosPerTab[0];
+        var countGrowth = (double) tabCounts[tabCounts.length - 1] / tabCounts[0];
+        assertTrue(growth < countGrowth / 2, String.format("%s: the time per tab grew %.2f times for %.0f times more "
+                + "tabs", name, growth, countGrowth));
+    }
+
+    /**
+     * Measures the operation for every tab count and checks that the total time for the largest count is less than
+     * half of the growth of the count, so the cost doesn't depend on the number of the tabs linearly.
+     *
+     * @param name the name of the measured operation.
+     * @param tabCounts the tab counts in the ascending order.
+     * @param operation returns the nanoseconds spent for the given tab count.
+     */
+    static void assertSublinearScaling(String name, int[] tabCounts, IntToLongFunction operation) {
+        var nanos = measure(name, tabCounts, operation);
+        var growth = (double) nanos[tabCounts.length - 1] / nanos[0];
+        var countGrowth = (double) tabCounts[tabCounts.length - 1] / tabCounts[0];
+        assertTrue(growth < countGrowth / 2, String.format("%s: the time grew %.2f times for %.0f times more tabs",
+                name, growth, countGrowth));
+    }
+
+    /**
+     * Measures the operation for every tab count, taking the best of several runs after the warm-up, and prints
+     * the results.
+     *
+     * @return the nanoseconds spent for every tab count.
+     */
+    static long[] measure(String name, int[] tabCounts, IntToLongFunction operation) {
+        var maxCount = tabCounts[tabCounts.length - 1];
+        // warm-up
+        for (var i = 0; i < RUN_COUNT; i++) {
+            operation.applyAsLong(maxCount);
+        }
+        var nanos = new long[tabCounts.length];
+        for (var i = 0; i < tabCounts.length; i++) {
+            var best = Long.MAX_VALUE;
+            for (var run = 0; run < RUN_COUNT; run++) {
+                // the garbage of the previous run must not be collected during this one
+                System.gc();
+                best = Math.min(best, operation.applyAsLong(tabCounts[i]));
+            }
+            nanos[i] = best;
+            System.out.printf("%s: %d tabs, %.3f ms total, %.0f ns per tab%n", name, tabCounts[i], best / 1e6,
+                    (double) best / tabCounts[i]);
+        }
+        return nanos;
+    }
+
+    private BenchmarkUtils() {
+        // empty
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.ContentAttachmentPolicy;
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.List;
+import java.util.stream.Collectors;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the attachment of the tab contents according to the content attachment policy.
+ *
+ * @author Pavel Castornii
+ */
+class ContentAttachmentTest {
+
+    private static TabPanePro createTabPane(ContentAttachmentPolicy policy, int tabCount) {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        tabPane.setContentAttachmentPolicy(policy);
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i, new Label("Content " + i)));
+        }
+        return tabPane;
+    }
+
+    private static List<TabPaneProSkin.TabContentRegion> getAttachedContentRegions(TabPanePro tabPane) {
+        return tabPane.getChildrenUnmodifiable().stream()
+                .filter(n -> n instanceof TabPaneProSkin.TabContentRegion)
+                .map(n -> (TabPaneProSkin.TabContentRegion) n)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void batchUpdate_selectedOnlyNewTabSelected_singleRegionAttached() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(ContentAttachmentPolicy.SELECTED_ONLY, 3);
+            var newTab = new Tab("New", new Label("New"));
+
+            tabPane.batchUpdate(() -> {
+                tabPane.getTabs().add(newTab);
+                tabPane.getSelectionModel().select(newTab);
+            });
+
+            var regions = getAttachedContentRegions(tabPane);
+            assertEquals(1, regions.size());
+            assertSame(newTab, regions.get(0).getTab());
+        });
+    }
+
+    @Test
+    void batchUpdate_recentlySelectedNewTabSelected_limitKept() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(ContentAttachmentPolicy.RECENTLY_SELECTED, 3);
+            tabPane.setAttachedContentLimit(2);
+            tabPane.getSelectionModel().select(1);
+            tabPane.getSelectionModel().select(2);
+            var newTab = new Tab("New", new Label("New"));
+
+            tabPane.batchUpdate(() -> {
+                tabPane.getTabs().add(newTab);
+                tabPane.getSelectionModel().select(newTab);
+            });
+
+            var tabs = getAttachedContentRegions(tabPane).stream()
+                    .map(TabPaneProSkin.TabContentRegion::getTab)
+                    .collect(Collectors.toSet());
+            assertEquals(2, tabs.size());
+            assertTrue(tabs.contains(newTab));
+            assertTrue(tabs.contains(tabPane.getTabs().get(2)));
+        });
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tab;
+import javafx.scene.layout.VBox;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the cost of resizing the tab pane against the number of the tabs. When the layout of the hidden contents
+ * is disabled, only the selected content is laid out. With the eager content attachment all the content regions are
+ * still the children of the tab pane, so {@code Parent.layout()} visits every one of them and the cost remains
+ * linear, but it must be much lower than the cost of laying out all the contents. The headers are virtualized to
+ * exclude their layout from the measurement.
+ *
+ * @author Pavel Castornii
+ */
+@Tag(BenchmarkUtils.TAG)
+class ContentLayoutBenchmark {
+
+    private static final int[] TAB_COUNTS = {250, 500, 1_000, 2_000};
+
+    private static final int RESIZE_COUNT = 50;
+
+    private static final int LABEL_COUNT = 10;
+
+    private static long resize(int tabCount, boolean hiddenContentLayoutEnabled) {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        tabPane.setHiddenContentLayoutEnabled(hiddenContentLayoutEnabled);
+        ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea().setVirtualized(true);
+        for (var i = 0; i < tabCount; i++) {
+            var content = new VBox();
+            for (var j = 0; j < LABEL_COUNT; j++) {
+                content.getChildren().add(new Label("Label " + j));
+            }
+            tabPane.getTabs().add(new Tab("Tab " + i, content));
+        }
+        // CSS is applied only to the nodes of a scene
+        new Scene(tabPane, 800, 600);
+        tabPane.applyCss();
+        tabPane.layout();
+        var start = System.nanoTime();
+        for (var i = 0; i < RESIZE_COUNT; i++) {
+            tabPane.resize(800 + i % 2 * 10, 600 - i % 2 * 10);
+            tabPane.layout();
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    void resize_hiddenContentLayoutDisabled_muchCheaperThanEnabled() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var laidOut = BenchmarkUtils.measure("Resize, hidden contents laid out", TAB_COUNTS, c -> resize(c, true));
+            var skipped = BenchmarkUtils.measure("Resize, hidden contents skipped", TAB_COUNTS, c -> resize(c, false));
+            var last = TAB_COUNTS.length - 1;
+            var ratio = (double) laidOut[last] / skipped[last];
+            assertTrue(ratio > 10, String.format("Skipping the hidden contents made the resize only %.2f times "
+                    + "faster", ratio));
+        });
+    }
+}
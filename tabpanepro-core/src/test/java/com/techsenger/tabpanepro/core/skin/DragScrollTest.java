@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.scene.Scene;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the scrolling of the tab headers while a tab is dragged in the edge zone. The pulses are simulated by
+ * calling the timer directly.
+ *
+ * @author Pavel Castornii
+ */
+class DragScrollTest {
+
+    /**
+     * The duration of one pulse in nanoseconds at 60 fps.
+     */
+    private static final long PULSE = 16_666_667L;
+
+    private static TabPanePro createTabPane() {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        for (var i = 0; i < 200; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        new Scene(tabPane, 400, 300);
+        tabPane.applyCss();
+        for (var i = 0; i < 3; i++) {
+            tabPane.layout();
+        }
+        getTabHeaderArea(tabPane).setTabDragScrollStep(5);
+        return tabPane;
+    }
+
+    private static TabPaneProSkin.TabHeaderArea getTabHeaderArea(TabPanePro tabPane) {
+        return ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+    }
+
+    /**
+     * Scrolls the headers of a new tab pane towards the end and returns the distance scrolled in the specified
+     * interval of the dwell time.
+     */
+    private static double getDistance(double depth, double fromSeconds, double toSeconds, long pulse) {
+        var area = getTabHeaderArea(createTabPane());
+        var dragScroll = area.getDragScroll();
+        dragScroll.scroll(-1, depth, 0);
+        var startTime = System.nanoTime();
+        var fromOffset = 0.0;
+        for (var now = startTime; now <= startTime + (long) (toSeconds * 1e9); now += pulse) {
+            if (fromOffset == 0.0 && now >= startTime + (long) (fromSeconds * 1e9)) {
+                fromOffset = area.getHeadersRegionOffset();
+            }
+            dragScroll.handle(now);
+        }
+        dragScroll.stop();
+        return fromOffset - area.getHeadersRegionOffset();
+    }
+
+    @Test
+    void handle_deepInEdgeZone_fasterThanAtOuterBorder() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var outerDistance = getDistance(0, 0, 0.5, PULSE);
+            var innerDistance = getDistance(1, 0, 0.5, PULSE);
+
+            assertTrue(outerDistance > 0);
+            // the speed at the outer border is a quarter of the speed at the inner border
+            assertEquals(4, innerDistance / outerDistance, 0.2);
+        });
+    }
+
+    @Test
+    void handle_pointerStaysInEdgeZone_speedIncreases() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var firstDistance = getDistance(1, 0, 0.5, PULSE);
+            var laterDistance = getDistance(1, 1.5, 2, PULSE);
+
+            // the speed doubles every 0.75 seconds
+            assertEquals(4, laterDistance / firstDistance, 0.4);
+        });
+    }
+
+    @Test
+    void handle_differentFrameRates_sameDistance() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var distance60 = getDistance(1, 0, 1, PULSE);
+            var distance30 = getDistance(1, 0, 1, 2 * PULSE);
+
+            assertEquals(1, distance30 / distance60, 0.05);
+        });
+    }
+
+    @Test
+    void checkScrollOnDrag_edgeSizeChanged_zoneChanged() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane());
+            var dragScroll = area.getDragScroll();
+            var geometry = area.getDropGeometry().validate();
+            // the x that is 15 pixels before the inner edge of the sticky area
+            var x = geometry.getDistanceToStickyEdge(0) - 15;
+            area.setTabDragScrollEdge(10);
+
+            area.checkScrollOnDrag(x);
+
+            assertFalse(dragScroll.isRunning());
+
+            area.setTabDragScrollEdge(20);
+            area.checkScrollOnDrag(x);
+
+            assertTrue(dragScroll.isRunning());
+            assertEquals(-1, dragScroll.getDirection());
+            assertEquals(0.25, dragScroll.getDepth(), 1e-9);
+            dragScroll.stop();
+        });
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.scene.Scene;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the resolving of the drop index from the cached geometry of the tab headers.
+ *
+ * @author Pavel Castornii
+ */
+class DropGeometryTest {
+
+    private static TabPanePro createTabPane(int tabCount) {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        new Scene(tabPane, 400, 300);
+        tabPane.applyCss();
+        for (var i = 0; i < 3; i++) {
+            tabPane.layout();
+        }
+        return tabPane;
+    }
+
+    private static TabPaneProSkin.TabHeaderArea getTabHeaderArea(TabPanePro tabPane) {
+        return ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+    }
+
+    /**
+     * Finds the drop index by scanning all the headers, without hysteresis.
+     */
+    private static int findDropIndexLinearly(TabPaneProSkin.TabHeaderArea area, double regionX) {
+        var headers = area.getTabHeaders();
+        for (var i = 0; i < headers.size(); i++) {
+            var bounds = headers.get(i).getBoundsInParent();
+            if (regionX < bounds.getMaxX() || i == headers.size() - 1) {
+                return regionX < (bounds.getMinX() + bounds.getMaxX()) / 2 ? i : i + 1;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    void findDropIndex_everyPosition_sameIndexAsLinearScan() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane(5));
+            var geometry = area.getDropGeometry().validate();
+            var headers = area.getTabHeaders();
+            var endX = headers.get(headers.size() - 1).getBoundsInParent().getMaxX();
+
+            for (var x = 0.5; x < endX; x += 1) {
+                assertEquals(findDropIndexLinearly(area, x), geometry.findDropIndex(x, -1), "x = " + x);
+            }
+        });
+    }
+
+    @Test
+    void findDropIndex_nearMiddle_currentIndexKept() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane(5));
+            var geometry = area.getDropGeometry().validate();
+            var bounds = area.getTabHeaders().get(2).getBoundsInParent();
+            var middle = (bounds.getMinX() + bounds.getMaxX()) / 2;
+
+            assertEquals(3, geometry.findDropIndex(middle + 2, -1));
+            assertEquals(2, geometry.findDropIndex(middle + 2, 2));
+            assertEquals(3, geometry.findDropIndex(middle + 5, 2));
+
+            assertEquals(2, geometry.findDropIndex(middle - 2, -1));
+            assertEquals(3, geometry.findDropIndex(middle - 2, 3));
+            assertEquals(2, geometry.findDropIndex(middle - 5, 3));
+        });
+    }
+
+    @Test
+    void findDropIndex_edgeNotVisible_noIndex() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane(100));
+            var geometry = area.getDropGeometry().validate();
+            var bounds = area.getTabHeaders().get(50).getBoundsInParent();
+
+            assertEquals(-1, geometry.findDropIndex(bounds.getMinX() + 1, -1));
+        });
+    }
+
+    @Test
+    void scrollTabHeadersBy_geometryValid_onlyOriginUpdated() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane(100));
+            var geometry = area.getDropGeometry().validate();
+            var areaX = geometry.toAreaX(500);
+            var dropEdge = geometry.getDropEdge(10);
+
+            area.scrollTabHeadersBy(-100);
+            geometry.validate();
+
+            assertEquals(areaX - 100, geometry.toAreaX(500));
+            assertEquals(dropEdge - 100, geometry.getDropEdge(10));
+            assertEquals(500, geometry.toRegionX(geometry.toAreaX(500)));
+        });
+    }
+}
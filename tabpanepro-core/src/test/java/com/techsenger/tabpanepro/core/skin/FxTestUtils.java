@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package com.techsenger.tabpanepro.core.skin;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX toolkit once and runs the test code on the FX application thread.
+ *
+ * @author Pavel Castornii
+ */
+final class FxTestUtils {
+
+    private static boolean started = false;
+
+    static synchronized void startToolkit() throws InterruptedException {
+        if (started) {
+            return;
+        }
+        var latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+        } catch (IllegalStateException ex) {
+            // the toolkit is already started
+            latch.countDown();
+        }
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The JavaFX toolkit has not started");
+        }
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+
+    /**
+     * Runs the code on the FX application thread and rethrows its exception in the calling thread.
+     */
+    static void runOnFxThread(Runnable runnable) throws Exception {
+        startToolkit();
+        var latch = new CountDownLatch(1);
+        var error = new AtomicReference<Throwable>();
+        Platform.runLater(() -> {
+            try {
+                runnable.run();
+            } catch (Throwable ex) {
+                error.set(ex);
+            } finally {
+                latch.countDown();
+            }
+        });
+        if (!latch.await(5, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("The FX code has not finished in time");
+        }
+        var ex = error.get();
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        } else if (ex instanceof Exception) {
+            throw (Exception) ex;
+        }
+    }
+
+    private FxTestUtils() {
+        // empty
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Tab;
+import javafx.scene.shape.Rectangle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the tab headers are scrolled by translating the headers region instead of relocating the headers.
+ *
+ * @author Pavel Castornii
+ */
+class HeadersTranslateTest {
+
+    private static TabPanePro createTabPane(int tabCount, boolean virtualized) {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        new Scene(tabPane, 400, 300);
+        tabPane.applyCss();
+        getTabHeaderArea(tabPane).setVirtualized(virtualized);
+        // the first layouts can request new ones, so the pane is laid out until it is stable
+        for (var i = 0; i < 3; i++) {
+            tabPane.layout();
+        }
+        return tabPane;
+    }
+
+    private static TabPaneProSkin.TabHeaderArea getTabHeaderArea(TabPanePro tabPane) {
+        return ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+    }
+
+    private static List<Double> getLayoutXs(Parent headersRegion) {
+        var xs = new ArrayList<Double>();
+        for (var header : headersRegion.getChildrenUnmodifiable()) {
+            xs.add(header.getLayoutX());
+        }
+        return xs;
+    }
+
+    @Test
+    void scrollTabHeadersBy_nonVirtualMode_regionTranslatedAndHeadersNotRelocated() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(100, false);
+            var area = getTabHeaderArea(tabPane);
+            var headersRegion = area.getTabHeaders().get(0).getParent();
+            var clip = (Rectangle) headersRegion.getClip();
+            var clipX = clip.getX();
+            var layoutXs = getLayoutXs(headersRegion);
+
+            area.scrollTabHeadersBy(-100);
+
+            assertEquals(-100, headersRegion.getTranslateX());
+            // the clip is shifted back, so it stays in place
+            assertEquals(clipX + 100, clip.getX());
+            assertFalse(headersRegion.isNeedsLayout());
+            assertEquals(layoutXs, getLayoutXs(headersRegion));
+
+            tabPane.layout();
+
+            assertEquals(-100, headersRegion.getTranslateX());
+            assertEquals(layoutXs, getLayoutXs(headersRegion));
+        });
+    }
+
+    @Test
+    void scrollTabHeadersBy_virtualModeInsideWindow_layoutNotRequested() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane(2000, true));
+            var headersRegion = area.getTabHeaders().get(0).getParent();
+
+            area.scrollTabHeadersBy(-10);
+
+            assertEquals(-10, headersRegion.getTranslateX());
+            assertFalse(headersRegion.isNeedsLayout());
+        });
+    }
+
+    @Test
+    void scrollTabHeadersBy_virtualModeOutsideWindow_layoutRequested() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(2000, true);
+            var area = getTabHeaderArea(tabPane);
+            var headersRegion = area.getTabHeaders().get(0).getParent();
+
+            area.scrollTabHeadersBy(-10_000);
+
+            assertEquals(-10_000, headersRegion.getTranslateX());
+            assertTrue(headersRegion.isNeedsLayout());
+
+            // the estimated widths of the new headers are replaced by the measured ones in the next layouts
+            for (var i = 0; i < 3; i++) {
+                tabPane.layout();
+            }
+
+            // the headers are materialized in the new viewport
+            var hasVisibleHeader = false;
+            for (var header : area.getTabHeaders()) {
+                var x = header.getLayoutX() - 10_000;
+                if (x + header.getLayoutBounds().getWidth() > 0 && x < 400) {
+                    hasVisibleHeader = true;
+                }
+            }
+            assertTrue(hasVisibleHeader);
+        });
+    }
+}
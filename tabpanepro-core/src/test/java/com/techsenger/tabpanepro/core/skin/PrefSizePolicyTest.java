@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.PrefSizePolicy;
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.scene.control.Tab;
+import javafx.scene.layout.Region;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the pref size of the tab pane for every pref size policy. The contents are compared by the difference of
+ * the pref sizes, so the size of the header area doesn't matter.
+ *
+ * @author Pavel Castornii
+ */
+class PrefSizePolicyTest {
+
+    private Region smallContent;
+
+    private Region largeContent;
+
+    private TabPanePro createTabPane(PrefSizePolicy policy) {
+        smallContent = new Region();
+        smallContent.setPrefSize(300, 100);
+        largeContent = new Region();
+        largeContent.setPrefSize(500, 400);
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        tabPane.setPrefSizePolicy(policy);
+        tabPane.getTabs().addAll(new Tab("Small", smallContent), new Tab("Large", largeContent));
+        return tabPane;
+    }
+
+    /**
+     * Returns the pref height of the tab pane without the header area. The content regions are not managed, so
+     * their layout requests don't reach the tab pane, the layout of the pane is requested to clear its cached
+     * pref size.
+     */
+    private static double getContentPrefHeight(TabPanePro tabPane) {
+        tabPane.requestLayout();
+        var area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+        return tabPane.prefHeight(-1) - area.prefHeight(-1);
+    }
+
+    @Test
+    void prefSize_maxOfAll_largestContent() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(PrefSizePolicy.MAX_OF_ALL);
+
+            assertEquals(400, getContentPrefHeight(tabPane), 0.001);
+            assertEquals(500, tabPane.prefWidth(-1), 0.001);
+        });
+    }
+
+    @Test
+    void prefSize_selectedOnly_selectedContent() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(PrefSizePolicy.SELECTED_ONLY);
+
+            assertEquals(100, getContentPrefHeight(tabPane), 0.001);
+
+            tabPane.getSelectionModel().select(1);
+
+            assertEquals(400, getContentPrefHeight(tabPane), 0.001);
+            assertEquals(500, tabPane.prefWidth(-1), 0.001);
+        });
+    }
+
+    @Test
+    void prefSize_cachedMax_updatedWhenContentChanges() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(PrefSizePolicy.CACHED_MAX);
+
+            assertEquals(400, getContentPrefHeight(tabPane), 0.001);
+
+            // the content that defined the maximum shrinks
+            largeContent.setPrefHeight(50);
+            assertEquals(100, getContentPrefHeight(tabPane), 0.001);
+
+            smallContent.setPrefHeight(600);
+            assertEquals(600, getContentPrefHeight(tabPane), 0.001);
+
+            tabPane.getTabs().remove(0);
+            assertEquals(50, getContentPrefHeight(tabPane), 0.001);
+        });
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.scene.Scene;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the smooth and the kinetic scrolling of the tab headers. The pulses are simulated by calling the timer
+ * directly.
+ *
+ * @author Pavel Castornii
+ */
+class SmoothScrollTest {
+
+    /**
+     * The duration of one pulse in nanoseconds.
+     */
+    private static final long PULSE = 16_666_667L;
+
+    private static TabPanePro createTabPane() {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        for (var i = 0; i < 100; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        new Scene(tabPane, 400, 300);
+        tabPane.applyCss();
+        tabPane.layout();
+        return tabPane;
+    }
+
+    private static TabPaneProSkin.TabHeaderArea getTabHeaderArea(TabPanePro tabPane) {
+        return ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+    }
+
+    /**
+     * Simulates the pulses until the scrolling stops and returns the number of the pulses.
+     */
+    private static int runPulses(TabPaneProSkin.TabHeaderArea.SmoothScroll smoothScroll, long startTime) {
+        var count = 0;
+        var now = startTime;
+        while (smoothScroll.isRunning() && count < 1_000) {
+            smoothScroll.handle(now);
+            now += PULSE;
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    void scrollTabHeadersBy_animated_targetAccumulatedAndReachedGradually() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane());
+            var smoothScroll = area.getSmoothScroll();
+
+            area.scrollTabHeadersBy(-100, true);
+            area.scrollTabHeadersBy(-100, true);
+
+            assertTrue(smoothScroll.isRunning());
+            assertEquals(-200, smoothScroll.getTargetOffset());
+            // the offset is changed only by the pulses
+            assertEquals(0, area.getHeadersRegionOffset());
+
+            var now = System.nanoTime();
+            smoothScroll.handle(now);
+            var offset = area.getHeadersRegionOffset();
+            assertTrue(offset < 0 && offset > -200);
+
+            var count = runPulses(smoothScroll, now + PULSE);
+
+            assertTrue(count > 1);
+            assertFalse(smoothScroll.isRunning());
+            assertEquals(-200, area.getHeadersRegionOffset());
+        });
+    }
+
+    @Test
+    void scrollTabHeadersBy_notAnimated_smoothScrollStoppedAndOffsetApplied() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane());
+            var smoothScroll = area.getSmoothScroll();
+            area.scrollTabHeadersBy(-100, true);
+
+            area.scrollTabHeadersBy(-50);
+
+            assertFalse(smoothScroll.isRunning());
+            assertEquals(-50, area.getHeadersRegionOffset());
+        });
+    }
+
+    @Test
+    void scrollTabHeadersBy_beyondEdge_targetClampedToEdge() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane());
+            var smoothScroll = area.getSmoothScroll();
+
+            area.scrollTabHeadersBy(-1_000_000, true);
+            runPulses(smoothScroll, System.nanoTime());
+
+            var offset = area.getHeadersRegionOffset();
+            assertTrue(offset < -400);
+            assertEquals(offset, smoothScroll.getTargetOffset());
+            // the edge is reached, so the headers can't be scrolled further
+            area.scrollTabHeadersBy(-100);
+            assertEquals(offset, area.getHeadersRegionOffset());
+        });
+    }
+
+    @Test
+    void scrollTabHeadersBy_kineticScrolling_scrollingContinuesAfterEvents() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane());
+            area.setSmoothScrolling(true);
+            area.setKineticScrolling(true);
+            var smoothScroll = area.getSmoothScroll();
+
+            area.scrollTabHeadersBy(-10, true);
+            area.scrollTabHeadersBy(-10, true);
+            // the inertia starts some time after the last scroll event
+            runPulses(smoothScroll, System.nanoTime() + 10 * PULSE);
+
+            assertFalse(smoothScroll.isRunning());
+            assertTrue(area.getHeadersRegionOffset() < -20);
+        });
+    }
+
+    @Test
+    void scrollTabHeadersBy_kineticScrollingDisabled_scrollingStopsAtTarget() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var area = getTabHeaderArea(createTabPane());
+            area.setSmoothScrolling(true);
+            var smoothScroll = area.getSmoothScroll();
+
+            area.scrollTabHeadersBy(-10, true);
+            area.scrollTabHeadersBy(-10, true);
+            runPulses(smoothScroll, System.nanoTime() + 10 * PULSE);
+
+            assertFalse(smoothScroll.isRunning());
+            assertEquals(-20, area.getHeadersRegionOffset());
+        });
+    }
+}
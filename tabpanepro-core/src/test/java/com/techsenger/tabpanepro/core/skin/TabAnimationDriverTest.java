@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.scene.Scene;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the shared driver of the tab open/close animations. The pulses are simulated by calling the driver directly.
+ *
+ * @author Pavel Castornii
+ */
+class TabAnimationDriverTest {
+
+    /**
+     * The time that is longer than any animation.
+     */
+    private static final long ANIMATION_END = 1_000_000_000L;
+
+    private static TabPanePro createTabPane(int tabCount) {
+        return createTabPane(tabCount, "");
+    }
+
+    private static TabPanePro createTabPane(int tabCount, String style) {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(Integer.MAX_VALUE);
+        tabPane.setAnimationLayoutBudget(0);
+        tabPane.setStyle(style);
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        new Scene(tabPane, 400, 300);
+        tabPane.applyCss();
+        tabPane.layout();
+        // finishes the opening animations of the initial tabs
+        var driver = getSkin(tabPane).getAnimationDriver();
+        driver.handle(0);
+        driver.handle(ANIMATION_END);
+        return tabPane;
+    }
+
+    private static TabPaneProSkin getSkin(TabPanePro tabPane) {
+        return (TabPaneProSkin) tabPane.getSkin();
+    }
+
+    @Test
+    void removeTabs_manyTabs_oneDriverFinishesAll() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(200);
+            var driver = getSkin(tabPane).getAnimationDriver();
+            var area = getSkin(tabPane).getTabHeaderArea();
+
+            tabPane.getTabs().remove(50, 200);
+
+            assertEquals(150, driver.getAnimationCount());
+            assertTrue(driver.isRunning());
+            // the closing headers stay until their animations finish
+            assertEquals(200, area.getTabHeaders().size());
+
+            driver.handle(2 * ANIMATION_END);
+            driver.handle(2 * ANIMATION_END + ANIMATION_END / 1_000);
+
+            assertEquals(150, driver.getAnimationCount());
+            driver.handle(3 * ANIMATION_END);
+
+            assertEquals(0, driver.getAnimationCount());
+            assertFalse(driver.isRunning());
+            assertEquals(50, area.getTabHeaders().size());
+        });
+    }
+
+    @Test
+    void removeTab_whileOpening_openingFinishedAndClosingStarted() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(3);
+            var driver = getSkin(tabPane).getAnimationDriver();
+            var area = getSkin(tabPane).getTabHeaderArea();
+            var tab = new Tab("New tab");
+            tabPane.getTabs().add(tab);
+            var header = area.getTabHeaderSkin(tab);
+            assertEquals(TabPaneProSkin.TabAnimationState.SHOWING, header.getAnimationState());
+
+            tabPane.getTabs().remove(tab);
+
+            // the opening animation is finished at once, so only the closing one remains
+            assertEquals(TabPaneProSkin.TabAnimationState.HIDING, header.getAnimationState());
+            assertEquals(1, driver.getAnimationCount());
+
+            driver.handle(2 * ANIMATION_END);
+            driver.handle(3 * ANIMATION_END);
+
+            assertEquals(TabPaneProSkin.TabAnimationState.NONE, header.getAnimationState());
+            assertNull(header.getParent());
+            assertFalse(driver.isRunning());
+        });
+    }
+
+    @Test
+    void removeTabs_scaleAnimation_transformsResetWhenFinished() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(50, "-fx-close-tab-animation: scale;");
+            var driver = getSkin(tabPane).getAnimationDriver();
+            var area = getSkin(tabPane).getTabHeaderArea();
+
+            tabPane.getTabs().remove(1, 3);
+            driver.handle(0);
+            driver.handle(ANIMATION_END / 20);
+
+            // the closing headers are scaled and their successors are translated
+            var headers = area.getTabHeaders();
+            assertTrue(headers.get(1).getScaleX() < 1);
+            assertTrue(headers.get(3).getTranslateX() != 0);
+            assertEquals(0, headers.get(0).getTranslateX());
+
+            driver.handle(ANIMATION_END);
+
+            assertFalse(driver.isRunning());
+            for (var header : area.getTabHeaders()) {
+                assertEquals(1, header.getScaleX());
+                assertEquals(0, header.getTranslateX());
+            }
+        });
+    }
+}
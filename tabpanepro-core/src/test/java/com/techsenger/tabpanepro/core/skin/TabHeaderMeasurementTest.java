@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.List;
+import javafx.scene.Scene;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the number of the measurements of the tab headers when the tabs are changed.
+ *
+ * @author Pavel Castornii
+ */
+class TabHeaderMeasurementTest {
+
+    private static TabPanePro createTabPane(int tabCount) {
+        return createTabPane(tabCount, false);
+    }
+
+    private static TabPanePro createTabPane(int tabCount, boolean virtualized) {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea().setVirtualized(virtualized);
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        new Scene(tabPane, 400, 300);
+        // the first passes measure all the headers
+        for (var i = 0; i < 3; i++) {
+            relayout(tabPane);
+        }
+        return tabPane;
+    }
+
+    private static void layout(TabPanePro tabPane) {
+        tabPane.applyCss();
+        tabPane.layout();
+    }
+
+    /**
+     * Lays out the header area again, so the measurements performed since the previous pass are counted.
+     */
+    private static void relayout(TabPanePro tabPane) {
+        ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea().requestLayout();
+        layout(tabPane);
+    }
+
+    private static void assertWidthsMatchHeaders(TabPanePro tabPane) {
+        var area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+        var index = area.getTabWidthIndex();
+        var headers = area.getTabHeaders();
+        assertEquals(headers.size(), index.size());
+        for (var i = 0; i < headers.size(); i++) {
+            assertEquals(area.snapSizeX(headers.get(i).prefWidth(-1)), index.getWidth(i), 0.001);
+        }
+    }
+
+    /**
+     * Adds and removes a tab in the middle and returns the number of the measurements of the next layout pass.
+     */
+    private static int measureTabChange(int tabCount) {
+        var tabPane = createTabPane(tabCount);
+        var area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+        tabPane.getTabs().add(tabCount / 2, new Tab("Inserted tab"));
+        tabPane.getTabs().remove(tabCount / 4);
+        layout(tabPane);
+        relayout(tabPane);
+        assertWidthsMatchHeaders(tabPane);
+        return area.getLayoutMeasurementCount();
+    }
+
+    @Test
+    void addTab_nonVirtualMode_onlyAddedHeaderMeasured() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var smallCount = measureTabChange(100);
+            var largeCount = measureTabChange(2_000);
+
+            assertEquals(smallCount, largeCount);
+        });
+    }
+
+    @Test
+    void replaceTabs_nonVirtualMode_widthsMatchHeaders() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(50);
+
+            tabPane.getTabs().set(10, new Tab("Replaced tab with a long title"));
+            tabPane.getTabs().remove(20, 30);
+            tabPane.getTabs().addAll(0, List.of(new Tab("A"), new Tab("B")));
+            layout(tabPane);
+
+            assertWidthsMatchHeaders(tabPane);
+        });
+    }
+
+    /**
+     * Resizes the tab pane and returns the number of the measurements of the layout pass.
+     */
+    private static int measureResize(int tabCount, boolean virtualized) {
+        var tabPane = createTabPane(tabCount, virtualized);
+        var area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+        tabPane.resize(420, 300);
+        layout(tabPane);
+        relayout(tabPane);
+        return area.getLayoutMeasurementCount();
+    }
+
+    @Test
+    void resize_nonVirtualMode_measurementCountIndependentOfTabCount() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var smallCount = measureResize(100, false);
+            var largeCount = measureResize(2_000, false);
+
+            assertEquals(smallCount, largeCount);
+        });
+    }
+
+    @Test
+    void resize_virtualMode_measurementCountIndependentOfTabCount() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var smallCount = measureResize(100, true);
+            var largeCount = measureResize(2_000, true);
+
+            assertEquals(smallCount, largeCount);
+        });
+    }
+}
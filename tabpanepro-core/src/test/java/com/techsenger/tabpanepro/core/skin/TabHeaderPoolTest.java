@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.css.PseudoClass;
+import javafx.event.Event;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane.TabClosingPolicy;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a header taken from the pool is fully rebound to its new tab.
+ *
+ * @author Pavel Castornii
+ */
+class TabHeaderPoolTest {
+
+    private static final PseudoClass SELECTED = PseudoClass.getPseudoClass("selected");
+
+    private static final PseudoClass DISABLED = PseudoClass.getPseudoClass("disabled");
+
+    /**
+     * The key that {@link Tooltip#install(Node, Tooltip)} uses to store the tooltip in the properties of the node.
+     */
+    private static final String TOOLTIP_KEY = "javafx.scene.control.Tooltip";
+
+    private TabPanePro tabPane;
+
+    private TabPaneProSkin.TabHeaderArea area;
+
+    private Tab oldTab;
+
+    private Tab newTab;
+
+    private TabPaneProSkin.TabHeaderSkin header;
+
+    /**
+     * Closes the old tab and opens the new one, so the header of the old tab is reused for the new tab.
+     */
+    private void reuseHeader() {
+        tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        tabPane.setTabClosingPolicy(TabClosingPolicy.ALL_TABS);
+        area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+        area.setTabHeaderPoolSize(4);
+        oldTab = new Tab("Old tab");
+        oldTab.getStyleClass().add("old-tab");
+        oldTab.setTooltip(new Tooltip("Old tooltip"));
+        oldTab.setContextMenu(new ContextMenu());
+        tabPane.getTabs().addAll(new Tab("First tab"), oldTab);
+        tabPane.getSelectionModel().select(oldTab);
+        new Scene(tabPane, 400, 300);
+        tabPane.applyCss();
+        tabPane.layout();
+        header = area.getTabHeaderSkin(oldTab);
+
+        tabPane.getTabs().remove(oldTab);
+        newTab = new Tab("New tab");
+        newTab.getStyleClass().add("new-tab");
+        newTab.setTooltip(new Tooltip("New tooltip"));
+        newTab.setContextMenu(new ContextMenu());
+        newTab.setDisable(true);
+        tabPane.getTabs().add(newTab);
+        tabPane.applyCss();
+        tabPane.layout();
+    }
+
+    private static void press(Node node, MouseButton button) {
+        Event.fireEvent(node, new MouseEvent(MouseEvent.MOUSE_PRESSED, 1, 1, 1, 1, button, 1, false, false, false,
+                false, button == MouseButton.PRIMARY, button == MouseButton.MIDDLE, false, false, false, true,
+                null));
+    }
+
+    @Test
+    void addTab_afterClosedTab_pooledHeaderReused() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            reuseHeader();
+
+            assertSame(header, area.getTabHeaderSkin(newTab));
+            assertSame(newTab, header.getContext().getTab());
+        });
+    }
+
+    @Test
+    void addTab_afterClosedTab_stateTakenFromNewTab() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            reuseHeader();
+
+            assertEquals("New tab", ((Label) header.lookup(".tab-label")).getText());
+            assertTrue(header.getStyleClass().contains("new-tab"));
+            assertFalse(header.getStyleClass().contains("old-tab"));
+            assertSame(newTab.getTooltip(), header.getProperties().get(TOOLTIP_KEY));
+            assertSame(newTab.getContextMenu(), header.getProperties().get(ContextMenu.class));
+            assertSame(newTab, header.getProperties().get(Tab.class));
+            assertEquals(newTab.isSelected(), header.getPseudoClassStates().contains(SELECTED));
+            assertTrue(header.getPseudoClassStates().contains(DISABLED));
+        });
+    }
+
+    @Test
+    void changeOldTab_afterHeaderReused_headerNotChanged() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            reuseHeader();
+            var selected = header.getPseudoClassStates().contains(SELECTED);
+
+            oldTab.setText("Changed old tab");
+            oldTab.getStyleClass().add("changed-old-tab");
+            oldTab.setStyle("-fx-background-color: red;");
+            oldTab.setTooltip(new Tooltip("Changed old tooltip"));
+            oldTab.setDisable(false);
+            new TabPanePro(oldTab).getSelectionModel().select(oldTab);
+
+            assertEquals("New tab", ((Label) header.lookup(".tab-label")).getText());
+            assertFalse(header.getStyleClass().contains("changed-old-tab"));
+            assertFalse(header.getStyle().contains("red"));
+            assertSame(newTab.getTooltip(), header.getProperties().get(TOOLTIP_KEY));
+            assertTrue(header.getPseudoClassStates().contains(DISABLED));
+            assertEquals(selected, header.getPseudoClassStates().contains(SELECTED));
+        });
+    }
+
+    @Test
+    void middleClick_afterHeaderReused_newTabClosed() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            reuseHeader();
+            newTab.setDisable(false);
+
+            press(header, MouseButton.MIDDLE);
+
+            assertFalse(tabPane.getTabs().contains(newTab));
+            assertNull(oldTab.getTabPane());
+        });
+    }
+
+    @Test
+    void closeButton_afterHeaderReused_newTabClosed() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            reuseHeader();
+            newTab.setDisable(false);
+            var firstTab = tabPane.getTabs().get(0);
+
+            press(header.lookup(".tab-close-button"), MouseButton.PRIMARY);
+
+            assertFalse(tabPane.getTabs().contains(newTab));
+            assertTrue(tabPane.getTabs().contains(firstTab));
+        });
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabEvent;
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tab;
+import javafx.scene.layout.VBox;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the hibernation of the tab contents, the eviction order and the events.
+ *
+ * @author Pavel Castornii
+ */
+class TabHibernationTest {
+
+    private static final int LABEL_COUNT = 10;
+
+    private final List<String> events = new ArrayList<>();
+
+    private final List<Node> hibernatedContents = new ArrayList<>();
+
+    /**
+     * Creates the tab pane with the tabs without contents, the contents are created by the factory.
+     */
+    private TabPanePro createTabPane(int tabCount) {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        tabPane.setContentFactory(tab -> {
+            var content = new VBox();
+            for (var i = 0; i < LABEL_COUNT; i++) {
+                content.getChildren().add(new Label(tab.getText()));
+            }
+            return content;
+        });
+        tabPane.setOnTabHibernated(e -> {
+            events.add("hibernated " + e.getTab().getText());
+            // the content is still available, so its state can be saved
+            hibernatedContents.add(e.getTab().getContent());
+        });
+        tabPane.setOnTabRestored(e -> events.add("restored " + e.getTab().getText()));
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        return tabPane;
+    }
+
+    private static void select(TabPanePro tabPane, int... indexes) {
+        for (var index : indexes) {
+            tabPane.getSelectionModel().select(index);
+        }
+    }
+
+    @Test
+    void select_moreTabsThanLimit_leastRecentlySelectedHibernated() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(5);
+            tabPane.setLiveContentLimit(2);
+            var tabs = tabPane.getTabs();
+
+            select(tabPane, 0, 1, 2);
+
+            assertEquals(List.of("hibernated Tab 0"), events);
+            assertNotNull(hibernatedContents.get(0));
+            assertNull(tabs.get(0).getContent());
+            assertNotNull(tabs.get(1).getContent());
+            assertNotNull(tabs.get(2).getContent());
+            assertNull(tabs.get(3).getContent());
+
+            // tab 1 is now the least recently selected one
+            select(tabPane, 2, 1, 3);
+
+            assertEquals(List.of("hibernated Tab 0", "hibernated Tab 2"), events);
+            assertNotNull(tabs.get(1).getContent());
+        });
+    }
+
+    @Test
+    void select_hibernatedTab_contentRestored() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(3);
+            tabPane.setLiveContentLimit(1);
+            var firstTab = tabPane.getTabs().get(0);
+            var firstContent = firstTab.getContent();
+            select(tabPane, 1);
+            events.clear();
+
+            select(tabPane, 0);
+
+            assertEquals(List.of("restored Tab 0", "hibernated Tab 1"), events);
+            assertNotNull(firstTab.getContent());
+            assertNotSame(firstContent, firstTab.getContent());
+            assertNull(tabPane.getTabs().get(1).getContent());
+        });
+    }
+
+    @Test
+    void select_nodeBudgetExceeded_contentsHibernated() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(4);
+            tabPane.setLiveContentLimit(10);
+            // every content has the box and its labels
+            tabPane.setLiveContentNodeBudget(2 * (LABEL_COUNT + 1));
+
+            select(tabPane, 0, 1, 2, 3);
+
+            assertEquals(List.of("hibernated Tab 0", "hibernated Tab 1"), events);
+            assertNotNull(tabPane.getTabs().get(2).getContent());
+            assertNotNull(tabPane.getTabs().get(3).getContent());
+        });
+    }
+
+    @Test
+    void select_boundContent_notHibernated() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(3);
+            tabPane.setLiveContentLimit(1);
+            var boundTab = tabPane.getTabs().get(0);
+            var content = new Label("Bound");
+            boundTab.contentProperty().bind(new SimpleObjectProperty<>(content));
+
+            select(tabPane, 1, 2);
+
+            assertSame(content, boundTab.getContent());
+            assertEquals(List.of("hibernated Tab 1"), events);
+        });
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that sorting the tabs moves the existing headers and content regions instead of recreating them.
+ *
+ * @author Pavel Castornii
+ */
+class TabPermutationTest {
+
+    private static final int TAB_COUNT = 2_000;
+
+    private static Map<Tab, Node> getContentRegions(TabPanePro tabPane) {
+        Map<Tab, Node> regions = new IdentityHashMap<>();
+        for (var node : tabPane.getChildrenUnmodifiable()) {
+            if (node instanceof TabPaneProSkin.TabContentRegion) {
+                regions.put(((TabPaneProSkin.TabContentRegion) node).getTab(), node);
+            }
+        }
+        return regions;
+    }
+
+    @Test
+    void sort_twoThousandTabs_headersAndContentsMoved() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = new TabPanePro();
+            tabPane.setAnimatedTabChangeLimit(0);
+            for (var i = 0; i < TAB_COUNT; i++) {
+                tabPane.getTabs().add(new Tab(String.format("Tab %04d", i), new Label("Content " + i)));
+            }
+            var selectedTab = tabPane.getTabs().get(TAB_COUNT / 3);
+            tabPane.getSelectionModel().select(selectedTab);
+            new Scene(tabPane, 400, 300);
+            tabPane.applyCss();
+            tabPane.layout();
+            var area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+            Map<Tab, Node> headers = new IdentityHashMap<>();
+            for (var tab : tabPane.getTabs()) {
+                headers.put(tab, area.getTabHeaderSkin(tab));
+            }
+            var contentRegions = getContentRegions(tabPane);
+
+            FXCollections.sort(tabPane.getTabs(), Comparator.comparing(Tab::getText).reversed());
+            tabPane.applyCss();
+            tabPane.layout();
+
+            assertEquals("Tab 1999", tabPane.getTabs().get(0).getText());
+            List<Node> expectedHeaders = new ArrayList<>();
+            for (var tab : tabPane.getTabs()) {
+                expectedHeaders.add(headers.get(tab));
+            }
+            assertEquals(expectedHeaders, area.getTabHeaders());
+            var sortedContentRegions = getContentRegions(tabPane);
+            assertEquals(TAB_COUNT, sortedContentRegions.size());
+            for (var tab : tabPane.getTabs()) {
+                assertSame(contentRegions.get(tab), sortedContentRegions.get(tab));
+            }
+            assertSame(selectedTab, tabPane.getSelectionModel().getSelectedItem());
+            assertTrue(selectedTab.isSelected());
+            assertTrue(sortedContentRegions.get(selectedTab).isVisible());
+        });
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.scene.control.Tab;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that removing the tabs one by one costs O(1) per tab, because the headers and the content regions are
+ * removed by their stored indexes.
+ *
+ * @author Pavel Castornii
+ */
+@Tag(BenchmarkUtils.TAG)
+class TabRemovalBenchmark {
+
+    private static long removeTabs(int tabCount) {
+        var tabPane = new TabPanePro();
+        // no animations, the headers are removed at once
+        tabPane.setAnimatedTabChangeLimit(0);
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        var tabs = tabPane.getTabs();
+        var start = System.nanoTime();
+        // from the end, so the list itself doesn't shift the elements, but a scan of the headers or the content
+        // regions would have to pass all of them
+        for (var i = tabCount - 1; i >= 0; i--) {
+            tabs.remove(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    void removeTabs_tenThousandTabs_linearScaling() throws Exception {
+        FxTestUtils.runOnFxThread(() -> BenchmarkUtils.assertLinearScaling("Tab removal",
+                new int[] {2_500, 5_000, 10_000}, TabRemovalBenchmark::removeTabs));
+    }
+}
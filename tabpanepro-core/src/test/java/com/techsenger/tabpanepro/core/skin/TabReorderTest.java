@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.ArrayList;
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the reordering of the tabs by the skin.
+ *
+ * @author Pavel Castornii
+ */
+class TabReorderTest {
+
+    private static TabPanePro createTabPane(int tabCount) {
+        var tabPane = new TabPanePro();
+        for (var i = 0; i < tabCount; i++) {
+            tabPane.getTabs().add(new Tab("Tab " + i));
+        }
+        return tabPane;
+    }
+
+    @Test
+    void moveTab_forward_singleChangeForUserListener() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(10);
+            var skin = (TabPaneProSkin) tabPane.getSkin();
+            var movedTab = tabPane.getTabs().get(1);
+            var expected = new ArrayList<>(tabPane.getTabs());
+            expected.remove(1);
+            expected.add(5, movedTab);
+            var changeCount = new int[1];
+            tabPane.getTabs().addListener((ListChangeListener<Tab>) c -> changeCount[0]++);
+
+            skin.moveTab(1, 5);
+
+            assertEquals(1, changeCount[0]);
+            assertEquals(expected, tabPane.getTabs());
+            assertSame(movedTab, tabPane.getSelectionModel().getSelectedItem());
+        });
+    }
+
+    @Test
+    void moveTab_backward_singleChangeForTabsMenuManager() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane(10);
+            var skin = (TabPaneProSkin) tabPane.getSkin();
+            var manager = skin.getTabsMenuManager();
+            var movedTab = tabPane.getTabs().get(7);
+            var expected = new ArrayList<>(tabPane.getTabs());
+            expected.remove(7);
+            expected.add(2, movedTab);
+            // the listener of the manager is wrapped, so the changes it receives are counted
+            var changeCount = new int[1];
+            tabPane.getTabs().removeListener(manager.weakTabsListenerForPopup);
+            tabPane.getTabs().addListener((ListChangeListener<Tab>) c -> {
+                changeCount[0]++;
+                manager.tabsListenerForPopup.onChanged(c);
+            });
+
+            skin.moveTab(7, 2);
+
+            assertEquals(1, changeCount[0]);
+            assertEquals(expected, tabPane.getTabs());
+        });
+    }
+}
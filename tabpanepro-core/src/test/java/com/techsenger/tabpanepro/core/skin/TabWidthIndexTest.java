@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.techsenger.tabpanepro.core.skin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the index of the header widths against a plain list of the widths.
+ *
+ * @author Pavel Castornii
+ */
+class TabWidthIndexTest {
+
+    private static final double ESTIMATED_WIDTH = 50;
+
+    private static final double GAP = 2;
+
+    private static void assertSameOffsets(List<Double> widths, TabWidthIndex index) {
+        assertEquals(widths.size(), index.size());
+        double offset = 0;
+        for (int i = 0; i < widths.size(); i++) {
+            assertEquals(offset, index.getOffset(i), 0.001);
+            assertEquals(i, index.findIndex(offset + 0.5));
+            offset += (widths.get(i) == null ? ESTIMATED_WIDTH : widths.get(i)) + GAP;
+        }
+        assertEquals(widths.isEmpty() ? 0 : offset - GAP, index.getTotalWidth(), 0.001);
+    }
+
+    private static TabWidthIndex createIndex() {
+        var index = new TabWidthIndex();
+        index.setEstimatedWidth(ESTIMATED_WIDTH);
+        index.setGap(GAP);
+        return index;
+    }
+
+    @Test
+    void insertAndRemove_randomChanges_sameOffsetsAsList() {
+        var random = new Random(1);
+        var index = createIndex();
+        List<Double> widths = new ArrayList<>();
+        for (int step = 0; step < 500; step++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || widths.isEmpty()) {
+                int at = random.nextInt(widths.size() + 1);
+                int count = 1 + random.nextInt(5);
+                index.insert(at, count);
+                for (int i = 0; i < count; i++) {
+                    widths.add(at, null);
+                }
+            } else if (operation == 1) {
+                int from = random.nextInt(widths.size());
+                int to = from + 1 + random.nextInt(Math.min(3, widths.size() - from));
+                index.remove(from, to);
+                widths.subList(from, to).clear();
+            } else {
+                int at = random.nextInt(widths.size());
+                double width = 10 + random.nextInt(100);
+                index.setWidth(at, width);
+                widths.set(at, width);
+            }
+            assertSameOffsets(widths, index);
+        }
+    }
+
+    @Test
+    void insert_atEnd_keepsKnownWidths() {
+        var index = createIndex();
+        index.insert(0, 3);
+        index.setWidth(0, 10);
+        index.setWidth(2, 30);
+        index.insert(3, 2);
+        index.setWidth(4, 40);
+
+        assertEquals(3, index.getKnownCount());
+        assertEquals(80, index.getKnownSum(), 0.001);
+        assertEquals(10 + 50 + 30 + 50 + 4 * GAP, index.getOffset(4), 0.001);
+    }
+
+    @Test
+    void putWidth_afterReset_sameOffsetsAsList() {
+        var random = new Random(2);
+        var index = createIndex();
+        index.insert(0, 10);
+        index.setWidth(3, 70);
+        List<Double> widths = new ArrayList<>();
+        index.reset(300);
+        for (int i = 0; i < 300; i++) {
+            Double width = random.nextBoolean() ? null : Double.valueOf(10 + random.nextInt(100));
+            if (width != null) {
+                index.putWidth(i, width);
+            }
+            widths.add(width);
+        }
+        index.buildTrees();
+
+        assertSameOffsets(widths, index);
+    }
+}
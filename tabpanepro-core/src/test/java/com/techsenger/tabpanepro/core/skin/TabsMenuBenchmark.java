@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import javafx.collections.FXCollections;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the changes of the tabs cost the tabs menu O(1) per change while the menu is hidden, because the menu
+ * is only marked as dirty and no menu item is built until it is shown. The listener of the menu is driven by its own
+ * list of the tabs, so the header area and the contents are not measured.
+ *
+ * @author Pavel Castornii
+ */
+@Tag(BenchmarkUtils.TAG)
+class TabsMenuBenchmark {
+
+    private static long addTabs(TabPaneProSkin.TabsMenuManager manager, int tabCount) {
+        var tabs = FXCollections.<Tab>observableArrayList();
+        tabs.addListener(manager.tabsListenerForPopup);
+        var newTabs = new Tab[tabCount];
+        for (var i = 0; i < tabCount; i++) {
+            newTabs[i] = new Tab("Tab " + i);
+        }
+        var start = System.nanoTime();
+        for (var tab : newTabs) {
+            tabs.add(tab);
+        }
+        var time = System.nanoTime() - start;
+        assertEquals(0, manager.getMenuItemCount());
+        return time;
+    }
+
+    @Test
+    void addTabs_menuHidden_noMenuItemsBuilt() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = new TabPanePro();
+            var manager = ((TabPaneProSkin) tabPane.getSkin()).getTabsMenuManager();
+            BenchmarkUtils.assertLinearScaling("Tabs menu, tab insertion", new int[] {2_500, 5_000, 10_000},
+                    c -> addTabs(manager, c));
+        });
+    }
+}
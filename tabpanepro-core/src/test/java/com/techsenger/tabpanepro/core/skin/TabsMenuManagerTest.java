@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.ArrayList;
+import javafx.scene.Scene;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Tab;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the items of the tabs menu.
+ *
+ * @author Pavel Castornii
+ */
+class TabsMenuManagerTest {
+
+    @Test
+    void showAndHide_tabsChanged_itemsFollowTabsAndAreReleased() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = new TabPanePro();
+            tabPane.setAnimatedTabChangeLimit(0);
+            for (var i = 0; i < 5; i++) {
+                tabPane.getTabs().add(new Tab("Tab " + i));
+            }
+            var skin = (TabPaneProSkin) tabPane.getSkin();
+            var manager = skin.getTabsMenuManager();
+            var stage = new Stage();
+            stage.setScene(new Scene(tabPane, 400, 300));
+            stage.show();
+            try {
+                // no items are built while the menu is hidden
+                assertEquals(0, manager.getMenuItemCount());
+
+                skin.getTabHeaderArea().showTabsMenu(tabPane);
+                assertEquals(5, manager.getMenuItemCount());
+
+                // the showing menu is updated incrementally
+                tabPane.getTabs().add(new Tab("Tab 5"));
+                tabPane.getTabs().remove(0);
+                assertEquals(5, manager.getMenuItemCount());
+
+                // the hidden menu doesn't keep the tabs
+                for (var window : new ArrayList<>(Window.getWindows())) {
+                    if (window instanceof ContextMenu) {
+                        window.hide();
+                    }
+                }
+                assertEquals(0, manager.getMenuItemCount());
+            } finally {
+                stage.hide();
+            }
+        });
+    }
+}
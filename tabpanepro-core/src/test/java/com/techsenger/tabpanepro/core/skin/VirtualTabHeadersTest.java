@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 Pavel Castornii. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation. This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package com.techsenger.tabpanepro.core.skin;
+
+import com.techsenger.tabpanepro.core.TabPanePro;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Tab;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the headers in the virtualized mode when the tabs are changed.
+ *
+ * @author Pavel Castornii
+ */
+class VirtualTabHeadersTest {
+
+    private static TabPanePro createTabPane() {
+        var tabPane = new TabPanePro();
+        tabPane.setAnimatedTabChangeLimit(0);
+        ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea().setVirtualized(true);
+        new Scene(tabPane, 400, 300);
+        return tabPane;
+    }
+
+    private static void layout(TabPanePro tabPane) {
+        tabPane.applyCss();
+        tabPane.layout();
+    }
+
+    private static void assertHeadersMatchTabs(TabPanePro tabPane) {
+        var area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+        assertEquals(tabPane.getTabs().size(), area.getTabWidthIndex().size());
+        // the materialized headers go in the order of their tabs
+        List<Node> headers = new ArrayList<>();
+        for (var tab : tabPane.getTabs()) {
+            var header = area.getTabHeaderSkin(tab);
+            if (header != null) {
+                headers.add(header);
+            }
+        }
+        assertFalse(headers.isEmpty());
+        assertEquals(headers, area.getTabHeaders());
+    }
+
+    @Test
+    void addTabs_oneByOne_headersMatchTabs() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane();
+            for (var i = 0; i < 200; i++) {
+                tabPane.getTabs().add(new Tab("Tab " + i));
+            }
+            layout(tabPane);
+
+            assertHeadersMatchTabs(tabPane);
+        });
+    }
+
+    @Test
+    void removeTabs_firstTabs_headersReleased() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane();
+            for (var i = 0; i < 200; i++) {
+                tabPane.getTabs().add(new Tab("Tab " + i));
+            }
+            layout(tabPane);
+            var area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+            var firstTab = tabPane.getTabs().get(0);
+
+            tabPane.getTabs().remove(0, 50);
+            layout(tabPane);
+
+            assertNull(area.getTabHeaderSkin(firstTab));
+            assertHeadersMatchTabs(tabPane);
+        });
+    }
+
+    @Test
+    void insertTab_inTheMiddle_headersShifted() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane();
+            for (var i = 0; i < 20; i++) {
+                tabPane.getTabs().add(new Tab("Tab " + i));
+            }
+            layout(tabPane);
+
+            tabPane.getTabs().add(1, new Tab("Inserted"));
+            tabPane.getTabs().set(3, new Tab("Replaced"));
+            assertHeadersMatchTabs(tabPane);
+            layout(tabPane);
+
+            assertHeadersMatchTabs(tabPane);
+        });
+    }
+
+    @Test
+    void setTabMinWidth_tabsMeasuredBefore_staleWidthsDropped() throws Exception {
+        FxTestUtils.runOnFxThread(() -> {
+            var tabPane = createTabPane();
+            for (var i = 0; i < 200; i++) {
+                tabPane.getTabs().add(new Tab("Tab " + i));
+            }
+            layout(tabPane);
+            var area = ((TabPaneProSkin) tabPane.getSkin()).getTabHeaderArea();
+            // the tabs at both ends are measured
+            area.scrollTabHeadersBy(-1_000_000);
+            layout(tabPane);
+            area.scrollTabHeadersBy(1_000_000);
+            layout(tabPane);
+
+            tabPane.setTabMinWidth(150);
+            layout(tabPane);
+
+            var index = area.getTabWidthIndex();
+            for (var i = 0; i < index.size(); i++) {
+                if (index.isKnown(i)) {
+                    assertTrue(index.getWidth(i) >= 150, "Tab " + i + " has stale width " + index.getWidth(i));
+                }
+            }
+            assertTrue(index.getTotalWidth() >= 200 * 150);
+        });
+    }
+}